@@ -0,0 +1,162 @@
+package com.cron.parser.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf csv} and exits with status 1 if any score is worse than the
+ * baseline by more than the threshold, 10% by default. Only the primary scores and the normalized allocation rate of
+ * the gc profiler are compared, as the other profiler counters depend on the duration of the run. Allocation rates
+ * that differ by less than {@value #ALLOCATION_TOLERANCE} byte per operation, or by less than the error of the
+ * baseline, are equal, so neither the noise around a call that does not allocate at all nor the allocations of the
+ * JVM spread over long operations count as a regression.
+ * <pre>
+ * java -cp target/benchmarks.jar com.cron.parser.benchmarks.BaselineComparison baselines/main.csv current.csv 5
+ * </pre>
+ */
+public class BaselineComparison {
+
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_TOLERANCE = 1.0;
+    private static final String THROUGHPUT = "thrpt";
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException("Usage: BaselineComparison <baseline.csv> <current.csv> [threshold %]");
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        Map<String, Score> baseline = read(Paths.get(args[0]));
+        Map<String, Score> current = read(Paths.get(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-100s %14s -> %14.3f %s (new)%n", entry.getKey(), "", after.value, after.unit);
+                continue;
+            }
+            double change = before.value == 0.0
+                    ? (after.value == 0.0 ? 0.0 : Double.POSITIVE_INFINITY)
+                    : (after.value - before.value) / before.value * 100.0;
+            double worse = after.higherIsBetter ? -change : change;
+            boolean regression = worse > threshold
+                    && !(entry.getKey().contains(ALLOCATION_RATE) && Math.abs(after.value - before.value) < allocationTolerance(before));
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-100s %14.3f -> %14.3f %s %+8.1f%%%s%n", entry.getKey(), before.value, after.value,
+                    after.unit, change, regression ? "  REGRESSION" : "");
+        }
+
+        System.out.printf("%d of %d scores regressed by more than %.1f%%%n", regressions, current.size(), threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the difference of allocation rates that is still noise: the error of the baseline, but at least
+     * {@value #ALLOCATION_TOLERANCE} byte per operation.
+     */
+    private static double allocationTolerance(Score baseline) {
+        return Double.isNaN(baseline.error) ? ALLOCATION_TOLERANCE : Math.max(ALLOCATION_TOLERANCE, baseline.error);
+    }
+
+    /**
+     * Reads the scores of a result file keyed by the benchmark name and its parameters.
+     */
+    static Map<String, Score> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Result file " + file + " is empty");
+        }
+        List<String> header = split(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int mode = header.indexOf("Mode");
+        int score = header.indexOf("Score");
+        int error = header.indexOf("Score Error (99.9%)");
+        int unit = header.indexOf("Unit");
+        if (benchmark < 0 || mode < 0 || score < 0 || error < 0 || unit < 0) {
+            throw new IllegalArgumentException("Result file " + file + " is not a JMH CSV file");
+        }
+
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = split(line);
+            String name = values.get(benchmark);
+            int secondary = name.indexOf(':');
+            if (secondary >= 0 && !name.endsWith(ALLOCATION_RATE)) {
+                continue;
+            }
+            StringBuilder key = new StringBuilder(name);
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ") && i < values.size() && !values.get(i).isEmpty()) {
+                    key.append(' ').append(header.get(i).substring("Param: ".length())).append('=').append(values.get(i));
+                }
+            }
+            boolean higherIsBetter = secondary < 0 && THROUGHPUT.equals(values.get(mode));
+            scores.put(key.toString(), new Score(Double.parseDouble(values.get(score)), Double.parseDouble(values.get(error)),
+                    values.get(unit), higherIsBetter));
+        }
+        return scores;
+    }
+
+    /**
+     * Splits a CSV line whose values may be quoted, with quotes inside of quoted values doubled.
+     */
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char current = line.charAt(i);
+            if (quoted) {
+                if (current == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (current == '"') {
+                    quoted = false;
+                } else {
+                    value.append(current);
+                }
+            } else if (current == '"') {
+                quoted = true;
+            } else if (current == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(current);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    static final class Score {
+
+        private final double value;
+        private final double error;
+        private final String unit;
+        private final boolean higherIsBetter;
+
+        private Score(double value, double error, String unit, boolean higherIsBetter) {
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+    }
+
+}
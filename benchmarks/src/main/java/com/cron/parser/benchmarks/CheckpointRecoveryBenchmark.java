@@ -0,0 +1,83 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.scheduler.JobListener;
+import com.cron.parser.scheduler.SchedulerCheckpoint;
+import com.cron.parser.scheduler.TimingWheelScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restarts a scheduler of a fleet of jobs from a {@link SchedulerCheckpoint}, and schedules every job again for
+ * comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckpointRecoveryBenchmark {
+
+    private static final JobListener LISTENER = (job, epochMinute) -> { };
+
+    @Param({"100000", "1000000"})
+    public int count;
+
+    private CompiledCron[] schedules;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        schedules = Fleet.schedules(count, 31);
+        file = Files.createTempFile("scheduler", ".checkpoint");
+        try (SchedulerCheckpoint checkpoint = SchedulerCheckpoint.open(file, count, Duration.ofSeconds(10), LISTENER)) {
+            TimingWheelScheduler scheduler = new TimingWheelScheduler(Clock.systemUTC(), checkpoint);
+            for (int id = 0; id < count; id++) {
+                checkpoint.schedule(scheduler, id, schedules[id]);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int recover() throws IOException {
+        try (SchedulerCheckpoint checkpoint = SchedulerCheckpoint.open(file, count, Duration.ofSeconds(10), LISTENER)) {
+            TimingWheelScheduler scheduler = new TimingWheelScheduler(Clock.systemUTC(), checkpoint);
+            checkpoint.recover(scheduler, id -> schedules[id], count);
+            return checkpoint.getRestoredCount();
+        }
+    }
+
+    @Benchmark
+    public int scheduleAgain() {
+        TimingWheelScheduler scheduler = new TimingWheelScheduler(Clock.systemUTC(), LISTENER);
+        for (int id = 0; id < count; id++) {
+            scheduler.schedule(id, schedules[id]);
+        }
+        return scheduler.size();
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.CronParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a {@link CronParser} from fields and from the whole expression, and renders its stats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CronParserBenchmark {
+
+    private final CronParser parser = new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+
+    @Benchmark
+    public CronParser construct() {
+        return new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+    }
+
+    @Benchmark
+    public CronParser parse() {
+        return CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+    }
+
+    @Benchmark
+    public String getStats() {
+        return parser.getStats();
+    }
+
+}
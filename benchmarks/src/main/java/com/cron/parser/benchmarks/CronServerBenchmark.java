@@ -0,0 +1,94 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.Main;
+import com.cron.parser.server.CronClient;
+import com.cron.parser.server.CronServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses expressions through a running {@link CronServer}, one per request and in batches, and by launching the
+ * one-shot command line for every expression. Every score is in expressions per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-D" + CronServer.NO_DELAY_PROPERTY + "=true")
+@State(Scope.Benchmark)
+public class CronServerBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final String[] expressions = new String[BATCH_SIZE];
+
+    private String batch;
+
+    private CronServer server;
+
+    private CronClient client;
+
+    private String java;
+
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(16);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            expressions[i] = "*/" + (1 + random.nextInt(30)) + " " + random.nextInt(24) + " 1,15 * 1-5 /usr/bin/job" + random.nextInt(1_000);
+        }
+        batch = String.join("\n", Arrays.asList(expressions));
+        server = new CronServer(0);
+        server.start();
+        client = new CronClient(server.getPort());
+        java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        server.close();
+    }
+
+    @Benchmark
+    public String single() throws IOException {
+        return client.send(CronServer.PARSE, expressions[next++ % BATCH_SIZE], null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public String batch() throws IOException {
+        return client.send(CronServer.PARSE, batch, null);
+    }
+
+    @Benchmark
+    public int commandLine() throws IOException, InterruptedException {
+        String expression = expressions[next++ % BATCH_SIZE];
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), Main.class.getName(), expression)
+                .redirectOutput(ProcessBuilder.Redirect.to(new File("/dev/null")))
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Command line failed for " + expression);
+        }
+        return exitCode;
+    }
+
+}
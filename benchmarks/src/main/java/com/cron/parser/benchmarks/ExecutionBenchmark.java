@@ -0,0 +1,99 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.CronParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the next and previous executions and matches minutes for a dense and a sparse schedule, starting from
+ * random minutes of the 2020s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ExecutionBenchmark {
+
+    private static final int MINUTES = 1024;
+
+    @Param({"*/15 0 1,15 * 1-5 /usr/bin/find", "0 12 29 2 * /usr/bin/leap"})
+    public String expression;
+
+    private CronParser parser;
+
+    private final long[] epochMinutes = new long[MINUTES];
+
+    private final boolean[] results = new boolean[MINUTES];
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2020, 3, 1, 12, 34);
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        parser = CronParser.parse(expression);
+        Random random = new Random(18);
+        for (int i = 0; i < MINUTES; i++) {
+            epochMinutes[i] = 26_297_280L + random.nextInt(5_256_000);
+        }
+    }
+
+    private long nextMinute() {
+        return epochMinutes[index++ & (MINUTES - 1)];
+    }
+
+    @Benchmark
+    public long nextExecution() {
+        return parser.nextExecution(nextMinute());
+    }
+
+    @Benchmark
+    public long previousExecution() {
+        return parser.previousExecution(nextMinute());
+    }
+
+    @Benchmark
+    public Optional<LocalDateTime> nextExecutionDateTime() {
+        return parser.nextExecution(dateTime);
+    }
+
+    @Benchmark
+    public boolean matchesMinute() {
+        return parser.matchesMinute(nextMinute());
+    }
+
+    /**
+     * Matches {@value #MINUTES} minutes per call.
+     */
+    @Benchmark
+    public boolean[] matchesMinutes() {
+        parser.matchesMinutes(epochMinutes, results);
+        return results;
+    }
+
+    /**
+     * Matches {@value #MINUTES} minutes per call.
+     */
+    @Benchmark
+    public BitSet matchesMinutesBitSet() {
+        return parser.matchesMinutes(epochMinutes);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.expressions.Expression;
+import com.cron.parser.expressions.ExpressionFactory;
+import com.cron.parser.expressions.ExpressionParser;
+import com.cron.parser.fields.FieldMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a minute field of each expression shape with the chain of {@link ExpressionFactory} and with the single pass
+ * {@link ExpressionParser}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+
+    @Param({"value", "range", "step", "list", "any"})
+    public String shape;
+
+    private String input;
+
+    private final Expression chain = ExpressionFactory.build();
+
+    private final ExpressionParser parser = new ExpressionParser();
+
+    @Setup
+    public void setUp() {
+        switch (shape) {
+            case "value":
+                input = "42";
+                break;
+            case "range":
+                input = "10-50";
+                break;
+            case "step":
+                input = "*/15";
+                break;
+            case "list":
+                input = "1,15,30,45";
+                break;
+            case "any":
+                input = "*";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+    }
+
+    @Benchmark
+    public FieldMask chain() {
+        return chain.parse(input, CompiledCron.MINUTE);
+    }
+
+    @Benchmark
+    public FieldMask singlePass() {
+        return parser.parse(input, CompiledCron.MINUTE);
+    }
+
+}
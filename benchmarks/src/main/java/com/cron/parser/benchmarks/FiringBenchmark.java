@@ -0,0 +1,123 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.index.ScheduleIndex;
+import com.cron.parser.store.MappedSchedules;
+import com.cron.parser.store.ScheduleFile;
+import com.cron.parser.store.ScheduleStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Finds the jobs of a fleet that fire in a random minute of the 2020s with the {@link ScheduleIndex}, a scan of the
+ * {@link ScheduleStore} columns, a scan of the {@link MappedSchedules} records and a linear scan over the compiled
+ * schedules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FiringBenchmark {
+
+    private static final int MINUTES = 1024;
+
+    @Param({"100000", "1000000"})
+    public int count;
+
+    private CompiledCron[] schedules;
+
+    private ScheduleIndex index;
+
+    private ScheduleStore store;
+
+    private Path file;
+
+    private MappedSchedules mapped;
+
+    private final long[] epochMinutes = new long[MINUTES];
+
+    private int next;
+
+    private int firing;
+
+    private final IntConsumer counter = id -> firing++;
+
+    @Setup
+    public void setUp() throws IOException {
+        schedules = Fleet.schedules(count, 31);
+        index = new ScheduleIndex();
+        store = new ScheduleStore(count);
+        for (CompiledCron schedule : schedules) {
+            index.add(schedule);
+            store.add(schedule);
+        }
+        file = Files.createTempFile("schedules", ".bin");
+        ScheduleFile.write(file, Arrays.asList(schedules));
+        mapped = ScheduleFile.map(file);
+        Random random = new Random(10);
+        for (int i = 0; i < MINUTES; i++) {
+            epochMinutes[i] = 26_297_280L + random.nextInt(5_256_000);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped = null;
+        Files.deleteIfExists(file);
+    }
+
+    private long nextMinute() {
+        firing = 0;
+        return epochMinutes[next++ & (MINUTES - 1)];
+    }
+
+    @Benchmark
+    public int index() {
+        index.forEachFiring(nextMinute(), counter);
+        return firing;
+    }
+
+    @Benchmark
+    public int store() {
+        store.forEachFiring(nextMinute(), counter);
+        return firing;
+    }
+
+    @Benchmark
+    public int mapped() {
+        mapped.forEachFiring(nextMinute(), counter);
+        return firing;
+    }
+
+    @Benchmark
+    public int linearScan() {
+        long epochMinute = nextMinute();
+        for (CompiledCron schedule : schedules) {
+            if (schedule.matchesMinute(epochMinute)) {
+                firing++;
+            }
+        }
+        return firing;
+    }
+
+}
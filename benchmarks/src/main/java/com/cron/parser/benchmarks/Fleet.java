@@ -0,0 +1,37 @@
+package com.cron.parser.benchmarks;
+
+import com.cron.parser.CompiledCron;
+
+import java.util.Random;
+
+/**
+ * Generates the schedules of a fleet of jobs, which repeat a few thousand distinct schedules shaped like real ones:
+ * mostly a fixed minute or every few minutes, every hour or a fixed hour, some on a day of the month or on weekdays.
+ */
+final class Fleet {
+
+    private static final int DISTINCT_SCHEDULES = 5_000;
+
+    private Fleet() {
+    }
+
+    static CompiledCron[] schedules(int count, long seed) {
+        Random random = new Random(seed);
+        CompiledCron[] distinct = new CompiledCron[DISTINCT_SCHEDULES];
+        for (int i = 0; i < distinct.length; i++) {
+            distinct[i] = CompiledCron.compile(
+                    random.nextInt(4) == 0 ? "*/" + (1 + random.nextInt(30)) : String.valueOf(random.nextInt(60)),
+                    random.nextBoolean() ? "*" : String.valueOf(random.nextInt(24)),
+                    random.nextInt(5) == 0 ? String.valueOf(1 + random.nextInt(28)) : "*",
+                    "*",
+                    random.nextInt(3) == 0 ? "1-5" : "*",
+                    "/usr/bin/job" + i);
+        }
+        CompiledCron[] schedules = new CompiledCron[count];
+        for (int i = 0; i < count; i++) {
+            schedules[i] = distinct[random.nextInt(distinct.length)];
+        }
+        return schedules;
+    }
+
+}
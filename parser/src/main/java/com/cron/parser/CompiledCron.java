@@ -0,0 +1,637 @@
+package com.cron.parser;
+
+import com.cron.parser.events.ExecutionEvent;
+import com.cron.parser.events.FlightRecording;
+import com.cron.parser.expressions.ExpressionParser;
+import com.cron.parser.fields.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.cron.parser.EpochCalendar.*;
+
+/**
+ * Immutable, thread safe result of parsing an expression: the five field masks and the command. Instances are
+ * compared by their masks and their command rather than by the source text, so semantically equal expressions such
+ * as {@code 0,15,30,45} and {@code 0-45/15} with the same command compile into equal instances, which
+ * {@link #intern()} collapses into one shared instance.
+ */
+public final class CompiledCron {
+
+    /**
+     * Returned by the epoch minute based methods when the schedule never fires, e.g. on the 30th of February.
+     */
+    public static final long NO_EXECUTION = Long.MIN_VALUE;
+
+    public static final Field MINUTE = new MinuteField();
+    public static final Field HOUR = new HourField();
+    public static final Field DAY_OF_MONTH = new DayOfMonthField();
+    public static final Field MONTH = new MonthField();
+    public static final Field DAY_OF_WEEK = new DayOfWeekField();
+
+    /**
+     * Every satisfiable schedule fires within this many years, as leap days are at most eight years apart.
+     */
+    private static final int SEARCH_YEARS = 8;
+
+    private static final long WEEK_BITS = (1L << DAYS_PER_WEEK) - 1;
+
+    private static final ExpressionParser PARSER = new ExpressionParser();
+
+    private static final CompiledCronRegistry REGISTRY = new CompiledCronRegistry();
+
+    private final long minuteBits;
+    private final long hourBits;
+    private final long dayOfMonthBits;
+    private final long monthBits;
+    private final long dayOfWeekBits;
+    private final String command;
+
+    private final boolean dayOfMonthRestricted;
+    private final boolean dayOfWeekRestricted;
+
+    private CompiledCron(
+        long minuteBits,
+        long hourBits,
+        long dayOfMonthBits,
+        long monthBits,
+        long dayOfWeekBits,
+        String command
+    ) {
+        this.minuteBits = minuteBits;
+        this.hourBits = hourBits;
+        this.dayOfMonthBits = dayOfMonthBits;
+        this.monthBits = monthBits;
+        this.dayOfWeekBits = dayOfWeekBits;
+        this.command = command;
+        this.dayOfMonthRestricted = dayOfMonthBits != fullBits(DAY_OF_MONTH);
+        this.dayOfWeekRestricted = dayOfWeekBits != fullBits(DAY_OF_WEEK);
+    }
+
+    public static CompiledCron compile(
+        String minute,
+        String hour,
+        String dayOfMonth,
+        String month,
+        String dayOfWeek,
+        String command
+    ) {
+        return new CompiledCron(
+                PARSER.parseBits(minute, MINUTE),
+                PARSER.parseBits(hour, HOUR),
+                PARSER.parseBits(dayOfMonth, DAY_OF_MONTH),
+                PARSER.parseBits(month, MONTH),
+                PARSER.parseBits(dayOfWeek, DAY_OF_WEEK),
+                Objects.requireNonNull(command, "command")
+        );
+    }
+
+    /**
+     * Returns the schedule of the given masks and command.
+     */
+    public static CompiledCron of(
+        FieldMask minute,
+        FieldMask hour,
+        FieldMask dayOfMonth,
+        FieldMask month,
+        FieldMask dayOfWeek,
+        String command
+    ) {
+        return new CompiledCron(
+                checkMask(minute, MINUTE),
+                checkMask(hour, HOUR),
+                checkMask(dayOfMonth, DAY_OF_MONTH),
+                checkMask(month, MONTH),
+                checkMask(dayOfWeek, DAY_OF_WEEK),
+                Objects.requireNonNull(command, "command")
+        );
+    }
+
+    /**
+     * Returns the schedule of the same masks running the given command, which is this instance if the command is
+     * the same.
+     */
+    public CompiledCron withCommand(String command) {
+        if (this.command.equals(Objects.requireNonNull(command, "command"))) {
+            return this;
+        }
+        return new CompiledCron(minuteBits, hourBits, dayOfMonthBits, monthBits, dayOfWeekBits, command);
+    }
+
+    /**
+     * Returns the shared instance equal to this one, registering this one if there is none yet. Interning is opt in,
+     * so that compiling does not contend on the registry, and pays off for long lived schedules that repeat a lot.
+     */
+    public CompiledCron intern() {
+        return REGISTRY.intern(this);
+    }
+
+    public FieldMask getMinute() {
+        return FieldMask.valueOf(minuteBits);
+    }
+
+    public FieldMask getHour() {
+        return FieldMask.valueOf(hourBits);
+    }
+
+    public FieldMask getDayOfMonth() {
+        return FieldMask.valueOf(dayOfMonthBits);
+    }
+
+    public FieldMask getMonth() {
+        return FieldMask.valueOf(monthBits);
+    }
+
+    public FieldMask getDayOfWeek() {
+        return FieldMask.valueOf(dayOfWeekBits);
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Tells if both the day of month and the day of week fields are restricted, in which case a day matches when
+     * either of them matches.
+     */
+    public boolean isEitherDayMatching() {
+        return dayOfMonthRestricted && dayOfWeekRestricted;
+    }
+
+    /**
+     * Tells if the schedule fires in the minute of the given milliseconds since the epoch.
+     */
+    public boolean matches(long epochMillis) {
+        return matchesMinute(Math.floorDiv(epochMillis, MILLIS_PER_MINUTE));
+    }
+
+    /**
+     * Tells if the schedule fires in the minute of the given date time.
+     */
+    public boolean matches(LocalDateTime dateTime) {
+        if (!FlightRecording.isExecutionEnabled()) {
+            return match(dateTime);
+        }
+        ExecutionEvent event = new ExecutionEvent();
+        event.begin();
+        boolean matches = match(dateTime);
+        if (event.shouldCommit()) {
+            event.set(ExecutionEvent.MATCH, toEpochMinute(dateTime), matches ? 1 : 0, 1);
+            event.commit();
+        }
+        return matches;
+    }
+
+    private boolean match(LocalDateTime dateTime) {
+        return (minuteBits & (1L << dateTime.getMinute())) != 0L
+                && (hourBits & (1L << dateTime.getHour())) != 0L
+                && (monthBits & (1L << dateTime.getMonthValue())) != 0L
+                && matchesDay(dateTime.getDayOfMonth(), dateTime.getDayOfWeek().getValue() % DAYS_PER_WEEK);
+    }
+
+    /**
+     * Tells if the schedule fires in the given minute since the epoch. The time of day is checked first, so most
+     * minutes are rejected before the date is computed.
+     */
+    public boolean matchesMinute(long epochMinute) {
+        if (!FlightRecording.isExecutionEnabled()) {
+            return matchMinute(epochMinute);
+        }
+        ExecutionEvent event = new ExecutionEvent();
+        event.begin();
+        boolean matches = matchMinute(epochMinute);
+        if (event.shouldCommit()) {
+            event.set(ExecutionEvent.MATCH, epochMinute, matches ? 1 : 0, 1);
+            event.commit();
+        }
+        return matches;
+    }
+
+    private boolean matchMinute(long epochMinute) {
+        long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) (epochMinute - epochDay * MINUTES_PER_DAY);
+        if ((minuteBits & (1L << (minuteOfDay % MINUTES_PER_HOUR))) == 0L
+                || (hourBits & (1L << (minuteOfDay / MINUTES_PER_HOUR))) == 0L) {
+            return false;
+        }
+        int civil = civil(epochDay);
+        return (monthBits & (1L << month(civil))) != 0L && matchesDay(dayOfMonth(civil), dayOfWeek(epochDay));
+    }
+
+    /**
+     * Fills the results with the match of each of the given minutes since the epoch. Every next execution lookup
+     * resolves all of the following minutes up to that execution, so ascending runs of minutes skip whole non
+     * matching hours and days at once. Minutes in any other order are still matched correctly.
+     */
+    public void matchesMinutes(long[] epochMinutes, boolean[] results) {
+        if (results.length < epochMinutes.length) {
+            throw new IllegalArgumentException("Results of length " + results.length + " cannot hold " + epochMinutes.length + " matches");
+        }
+
+        if (!FlightRecording.isExecutionEnabled()) {
+            matchMinutes(epochMinutes, results);
+            return;
+        }
+        ExecutionEvent event = new ExecutionEvent();
+        event.begin();
+        matchMinutes(epochMinutes, results);
+        if (event.shouldCommit()) {
+            int matches = 0;
+            for (int i = 0; i < epochMinutes.length; i++) {
+                matches += results[i] ? 1 : 0;
+            }
+            event.set(ExecutionEvent.MATCH_BATCH, epochMinutes.length > 0 ? epochMinutes[0] : NO_EXECUTION, matches, epochMinutes.length);
+            event.commit();
+        }
+    }
+
+    private void matchMinutes(long[] epochMinutes, boolean[] results) {
+        long windowStart = 0L;
+        long execution = 0L;
+        for (int i = 0; i < epochMinutes.length; i++) {
+            long epochMinute = epochMinutes[i];
+            if (i == 0 || epochMinute < windowStart || epochMinute > execution) {
+                windowStart = epochMinute;
+                execution = findNextExecution(epochMinute - 1);
+                if (execution == NO_EXECUTION) {
+                    Arrays.fill(results, 0, epochMinutes.length, false);
+                    return;
+                }
+            }
+            results[i] = epochMinute == execution;
+        }
+    }
+
+    /**
+     * Returns the indexes of the given minutes since the epoch that match the schedule.
+     */
+    public BitSet matchesMinutes(long[] epochMinutes) {
+        boolean[] results = new boolean[epochMinutes.length];
+        matchesMinutes(epochMinutes, results);
+
+        BitSet matches = new BitSet(epochMinutes.length);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the first execution strictly after the minute of the given date time.
+     */
+    public Optional<LocalDateTime> nextExecution(LocalDateTime dateTime) {
+        return toDateTime(nextExecution(toEpochMinute(dateTime)));
+    }
+
+    /**
+     * Returns the first execution strictly after the given minute since the epoch, or {@link #NO_EXECUTION}.
+     * The search jumps from one matching field value to the next, carrying over into the next hour, day, month
+     * or year when a field is exhausted.
+     */
+    public long nextExecution(long epochMinute) {
+        if (!FlightRecording.isExecutionEnabled()) {
+            return findNextExecution(epochMinute);
+        }
+        ExecutionEvent event = new ExecutionEvent();
+        event.begin();
+        long next = findNextExecution(epochMinute);
+        if (event.shouldCommit()) {
+            event.set(ExecutionEvent.NEXT, epochMinute, next, 1);
+            event.commit();
+        }
+        return next;
+    }
+
+    private long findNextExecution(long epochMinute) {
+        long start = epochMinute + 1;
+        int civil = civil(Math.floorDiv(start, MINUTES_PER_DAY));
+        int minuteOfDay = (int) Math.floorMod(start, MINUTES_PER_DAY);
+
+        int year = year(civil);
+        int month = month(civil);
+        int day = dayOfMonth(civil);
+        int hour = minuteOfDay / MINUTES_PER_HOUR;
+        int minute = minuteOfDay % MINUTES_PER_HOUR;
+        int lastYear = year + SEARCH_YEARS;
+
+        while (year <= lastYear) {
+            int nextMonth = FieldMask.next(monthBits, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = 0;
+                minute = 0;
+            }
+
+            int nextDay = FieldMask.next(dayBits(year, month), day);
+            if (nextDay < 0) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = 0;
+                minute = 0;
+            }
+
+            int nextHour = FieldMask.next(hourBits, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = 0;
+            }
+
+            int nextMinute = FieldMask.next(minuteBits, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = 0;
+                continue;
+            }
+
+            return epochMinute(epochDay(year, month, day), hour, nextMinute);
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Returns the last execution strictly before the minute of the given date time.
+     */
+    public Optional<LocalDateTime> previousExecution(LocalDateTime dateTime) {
+        return toDateTime(previousExecution(toEpochMinute(dateTime)));
+    }
+
+    /**
+     * Returns the last execution strictly before the given minute since the epoch, or {@link #NO_EXECUTION}.
+     * Mirrors {@link #nextExecution(long)} with the bit scans running backwards and borrowing from the previous
+     * hour, day, month or year.
+     */
+    public long previousExecution(long epochMinute) {
+        if (!FlightRecording.isExecutionEnabled()) {
+            return findPreviousExecution(epochMinute);
+        }
+        ExecutionEvent event = new ExecutionEvent();
+        event.begin();
+        long previous = findPreviousExecution(epochMinute);
+        if (event.shouldCommit()) {
+            event.set(ExecutionEvent.PREVIOUS, epochMinute, previous, 1);
+            event.commit();
+        }
+        return previous;
+    }
+
+    private long findPreviousExecution(long epochMinute) {
+        long start = epochMinute - 1;
+        int civil = civil(Math.floorDiv(start, MINUTES_PER_DAY));
+        int minuteOfDay = (int) Math.floorMod(start, MINUTES_PER_DAY);
+
+        int year = year(civil);
+        int month = month(civil);
+        int day = dayOfMonth(civil);
+        int hour = minuteOfDay / MINUTES_PER_HOUR;
+        int minute = minuteOfDay % MINUTES_PER_HOUR;
+        int firstYear = year - SEARCH_YEARS;
+
+        while (year >= firstYear) {
+            int previousMonth = FieldMask.previous(monthBits, month);
+            if (previousMonth < 0) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = HOURS_PER_DAY - 1;
+                minute = MINUTES_PER_HOUR - 1;
+                continue;
+            }
+            if (previousMonth != month) {
+                month = previousMonth;
+                day = 31;
+                hour = HOURS_PER_DAY - 1;
+                minute = MINUTES_PER_HOUR - 1;
+            }
+
+            int previousDay = FieldMask.previous(dayBits(year, month), day);
+            if (previousDay < 0) {
+                month--;
+                day = 31;
+                hour = HOURS_PER_DAY - 1;
+                minute = MINUTES_PER_HOUR - 1;
+                continue;
+            }
+            if (previousDay != day) {
+                day = previousDay;
+                hour = HOURS_PER_DAY - 1;
+                minute = MINUTES_PER_HOUR - 1;
+            }
+
+            int previousHour = FieldMask.previous(hourBits, hour);
+            if (previousHour < 0) {
+                day--;
+                hour = HOURS_PER_DAY - 1;
+                minute = MINUTES_PER_HOUR - 1;
+                continue;
+            }
+            if (previousHour != hour) {
+                hour = previousHour;
+                minute = MINUTES_PER_HOUR - 1;
+            }
+
+            int previousMinute = FieldMask.previous(minuteBits, minute);
+            if (previousMinute < 0) {
+                hour--;
+                minute = MINUTES_PER_HOUR - 1;
+                continue;
+            }
+
+            return epochMinute(epochDay(year, month, day), hour, previousMinute);
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Returns a lazy stream of the executions within {@code [from, to)}. The stream splits the interval into sub
+     * windows when it runs in parallel.
+     */
+    public Stream<Instant> executions(Instant from, Instant to) {
+        return executions(ceilEpochMinute(from), ceilEpochMinute(to))
+                .mapToObj(epochMinute -> Instant.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE));
+    }
+
+    /**
+     * Returns a lazy stream of the executions within {@code [fromEpochMinute, toEpochMinute)} in minutes since the
+     * epoch. The stream splits the interval into sub windows when it runs in parallel.
+     */
+    public LongStream executions(long fromEpochMinute, long toEpochMinute) {
+        return StreamSupport.longStream(new ExecutionSpliterator(this, fromEpochMinute, toEpochMinute), false);
+    }
+
+    /**
+     * Iterates over the executions strictly before the minute of the given date time, latest first.
+     */
+    public Iterator<LocalDateTime> reverseExecutions(LocalDateTime dateTime) {
+        PrimitiveIterator.OfLong executions = reverseExecutions(toEpochMinute(dateTime));
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return executions.hasNext();
+            }
+
+            @Override
+            public LocalDateTime next() {
+                return toDateTime(executions.nextLong()).orElseThrow();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the executions strictly before the given minute since the epoch, latest first.
+     */
+    public PrimitiveIterator.OfLong reverseExecutions(long epochMinute) {
+        return new PrimitiveIterator.OfLong() {
+
+            private long previous = previousExecution(epochMinute);
+
+            @Override
+            public boolean hasNext() {
+                return previous != NO_EXECUTION;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long execution = previous;
+                previous = previousExecution(execution);
+                return execution;
+            }
+        };
+    }
+
+    private boolean matchesDay(int dayOfMonth, int dayOfWeek) {
+        boolean dayOfMonthMatches = (dayOfMonthBits & (1L << dayOfMonth)) != 0L;
+        boolean dayOfWeekMatches = (dayOfWeekBits & (1L << dayOfWeek)) != 0L;
+        return dayOfMonthRestricted && dayOfWeekRestricted
+                ? dayOfMonthMatches || dayOfWeekMatches
+                : dayOfMonthMatches && dayOfWeekMatches;
+    }
+
+    /**
+     * Returns the days of the given month on which the schedule fires. Like in standard cron, the day of month and
+     * the day of week fields are combined with OR when both of them are restricted and with AND otherwise.
+     */
+    private long dayBits(int year, int month) {
+        int firstDayOfWeek = dayOfWeek(epochDay(year, month, 1));
+        long week = dayOfWeekBits;
+        long rotated = ((week >>> firstDayOfWeek) | (week << (DAYS_PER_WEEK - firstDayOfWeek))) & WEEK_BITS;
+        long weekDays = (rotated | rotated << 7 | rotated << 14 | rotated << 21 | rotated << 28) << 1;
+        long days = dayOfMonthRestricted && dayOfWeekRestricted
+                ? dayOfMonthBits | weekDays
+                : dayOfMonthBits & weekDays;
+        return days & FieldMask.rangeBits(1, lengthOfMonth(year, month));
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static long ceilEpochMinute(Instant instant) {
+        long epochMinute = Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_MINUTE);
+        boolean exact = epochMinute * SECONDS_PER_MINUTE == instant.getEpochSecond() && instant.getNano() == 0;
+        return exact ? epochMinute : epochMinute + 1;
+    }
+
+    private static Optional<LocalDateTime> toDateTime(long epochMinute) {
+        if (epochMinute == NO_EXECUTION) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC));
+    }
+
+    /**
+     * Returns the shortest canonical expression of the schedule followed by the command, which is the same for all
+     * of the expressions that compile into an equal instance.
+     */
+    public String toExpression() {
+        return getMinute().toExpression(MINUTE) + " " +
+                getHour().toExpression(HOUR) + " " +
+                getDayOfMonth().toExpression(DAY_OF_MONTH) + " " +
+                getMonth().toExpression(MONTH) + " " +
+                getDayOfWeek().toExpression(DAY_OF_WEEK) + " " +
+                command;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompiledCron)) {
+            return false;
+        }
+        CompiledCron that = (CompiledCron) o;
+        return minuteBits == that.minuteBits &&
+                hourBits == that.hourBits &&
+                dayOfMonthBits == that.dayOfMonthBits &&
+                monthBits == that.monthBits &&
+                dayOfWeekBits == that.dayOfWeekBits &&
+                command.equals(that.command);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(minuteBits);
+        result = 31 * result + Long.hashCode(hourBits);
+        result = 31 * result + Long.hashCode(dayOfMonthBits);
+        result = 31 * result + Long.hashCode(monthBits);
+        result = 31 * result + Long.hashCode(dayOfWeekBits);
+        return 31 * result + command.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledCron{" +
+                "expression=" + toExpression() +
+                '}';
+    }
+
+    private static long checkMask(FieldMask mask, Field field) {
+        long bits = mask.getBits();
+        if (bits == 0L || (bits & ~fullBits(field)) != 0L) {
+            throw new IllegalArgumentException("Mask " + mask + " is not valid for " + field);
+        }
+        return bits;
+    }
+
+    private static long fullBits(Field field) {
+        return FieldMask.rangeBits(field.getMin(), field.getMax());
+    }
+
+}
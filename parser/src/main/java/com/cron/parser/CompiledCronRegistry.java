@@ -0,0 +1,61 @@
+package com.cron.parser;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Flyweight registry that hands out one shared instance per distinct {@link CompiledCron}. Instances are only weakly
+ * referenced, so schedules that are no longer used anywhere else can be garbage collected. The instances are spread
+ * over independently locked stripes, so concurrent callers only contend when they intern into the same stripe.
+ */
+public class CompiledCronRegistry {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public CompiledCronRegistry() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public CompiledCron intern(CompiledCron compiledCron) {
+        return stripeFor(compiledCron).intern(compiledCron);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(CompiledCron compiledCron) {
+        int hash = compiledCron.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final Map<CompiledCron, WeakReference<CompiledCron>> instances = new WeakHashMap<>();
+
+        private synchronized CompiledCron intern(CompiledCron compiledCron) {
+            WeakReference<CompiledCron> reference = instances.get(compiledCron);
+            CompiledCron shared = reference == null ? null : reference.get();
+            if (shared == null) {
+                instances.put(compiledCron, new WeakReference<>(compiledCron));
+                shared = compiledCron;
+            }
+            return shared;
+        }
+
+        private synchronized int size() {
+            return instances.size();
+        }
+
+    }
+
+}
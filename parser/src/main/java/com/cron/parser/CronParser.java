@@ -0,0 +1,321 @@
+package com.cron.parser;
+
+import com.cron.parser.events.CronParserEvent;
+import com.cron.parser.events.FlightRecording;
+import com.cron.parser.expressions.ExpressionParserException;
+import com.cron.parser.fields.FieldMask;
+import com.cron.parser.metrics.CronMetrics;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class CronParser {
+
+    /**
+     * Returned by the epoch minute based methods when the schedule never fires, e.g. on the 30th of February.
+     */
+    public static final long NO_EXECUTION = CompiledCron.NO_EXECUTION;
+
+    private static final int FIELD_COUNT = 6;
+
+    /**
+     * Length of the statistics of the most common schedules without the command, so they are built without resizing.
+     */
+    private static final int STATS_CAPACITY = 256;
+
+    private final CompiledCron compiled;
+
+    public CronParser(
+        String minute,
+        String hour,
+        String dayOfMonth,
+        String month,
+        String dayOfWeek,
+        String command
+    ) {
+        if (!CronMetrics.isEnabled()) {
+            this.compiled = compile(minute, hour, dayOfMonth, month, dayOfWeek, command);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            this.compiled = compile(minute, hour, dayOfMonth, month, dayOfWeek, command);
+        } catch (ExpressionParserException e) {
+            CronMetrics.recordError(e.getReason().name());
+            throw e;
+        }
+        CronMetrics.recordConstruction(System.nanoTime() - start);
+    }
+
+    public CronParser(CompiledCron compiled) {
+        this.compiled = compiled;
+    }
+
+    private static CompiledCron compile(
+        String minute,
+        String hour,
+        String dayOfMonth,
+        String month,
+        String dayOfWeek,
+        String command
+    ) {
+        if (!FlightRecording.isCronParserEnabled()) {
+            return CompiledCron.compile(minute, hour, dayOfMonth, month, dayOfWeek, command);
+        }
+        CronParserEvent event = new CronParserEvent();
+        event.begin();
+        CompiledCron compiled = CompiledCron.compile(minute, hour, dayOfMonth, month, dayOfWeek, command);
+        if (event.shouldCommit()) {
+            event.set(minute, hour, dayOfMonth, month, dayOfWeek, command);
+            event.commit();
+        }
+        return compiled;
+    }
+
+    /**
+     * Parses a whitespace separated expression of five fields followed by the command, e.g.
+     * {@code "0 0 1,15 * 1-5 /usr/bin/find"}.
+     */
+    public static CronParser parse(String expression) {
+        String[] fields = split(expression.trim());
+
+        if (fields.length != FIELD_COUNT) {
+            if (CronMetrics.isEnabled()) {
+                CronMetrics.recordError(CronMetrics.FIELD_COUNT);
+            }
+            throw new IllegalArgumentException("Invalid number of cron fields in " + expression);
+        }
+
+        return new CronParser(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5]);
+    }
+
+    /**
+     * Splits the expression around runs of whitespace like {@code expression.split("\\s+")}, without compiling a
+     * regular expression, which bootstraps lambdas inside of the JDK and is the most expensive step of a cold start.
+     */
+    static String[] split(String expression) {
+        int length = expression.length();
+        int count = 0;
+        for (int i = 0; i < length; ) {
+            int start = i;
+            while (i < length && !isWhitespace(expression.charAt(i))) {
+                i++;
+            }
+            if (i > start || start == 0) {
+                count++;
+            }
+            while (i < length && isWhitespace(expression.charAt(i))) {
+                i++;
+            }
+        }
+        if (count == 0) {
+            return new String[]{expression};
+        }
+        if (count == 1 && isWhitespace(expression.charAt(0))) {
+            return new String[0];
+        }
+
+        String[] fields = new String[count];
+        int field = 0;
+        for (int i = 0; i < length; ) {
+            int start = i;
+            while (i < length && !isWhitespace(expression.charAt(i))) {
+                i++;
+            }
+            if (i > start || start == 0) {
+                fields[field++] = expression.substring(start, i);
+            }
+            while (i < length && isWhitespace(expression.charAt(i))) {
+                i++;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Tells if the character is matched by {@code \s} of a regular expression.
+     */
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || (character >= '\t' && character <= '\r');
+    }
+
+    public CompiledCron getCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Tells if the schedule fires in the minute of the given milliseconds since the epoch.
+     */
+    public boolean matches(long epochMillis) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.matches(epochMillis);
+        }
+        long start = System.nanoTime();
+        boolean result = compiled.matches(epochMillis);
+        CronMetrics.recordMatch(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Tells if the schedule fires in the minute of the given date time.
+     */
+    public boolean matches(LocalDateTime dateTime) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.matches(dateTime);
+        }
+        long start = System.nanoTime();
+        boolean result = compiled.matches(dateTime);
+        CronMetrics.recordMatch(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Tells if the schedule fires in the given minute since the epoch.
+     */
+    public boolean matchesMinute(long epochMinute) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.matchesMinute(epochMinute);
+        }
+        long start = System.nanoTime();
+        boolean result = compiled.matchesMinute(epochMinute);
+        CronMetrics.recordMatch(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Fills the results with the match of each of the given minutes since the epoch.
+     */
+    public void matchesMinutes(long[] epochMinutes, boolean[] results) {
+        if (!CronMetrics.isEnabled()) {
+            compiled.matchesMinutes(epochMinutes, results);
+            return;
+        }
+        long start = System.nanoTime();
+        compiled.matchesMinutes(epochMinutes, results);
+        CronMetrics.recordMatch(System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the indexes of the given minutes since the epoch that match the schedule.
+     */
+    public BitSet matchesMinutes(long[] epochMinutes) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.matchesMinutes(epochMinutes);
+        }
+        long start = System.nanoTime();
+        BitSet result = compiled.matchesMinutes(epochMinutes);
+        CronMetrics.recordMatch(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Returns the first execution strictly after the minute of the given date time.
+     */
+    public Optional<LocalDateTime> nextExecution(LocalDateTime dateTime) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.nextExecution(dateTime);
+        }
+        long start = System.nanoTime();
+        Optional<LocalDateTime> result = compiled.nextExecution(dateTime);
+        CronMetrics.recordExecution(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Returns the first execution strictly after the given minute since the epoch, or {@link #NO_EXECUTION}.
+     */
+    public long nextExecution(long epochMinute) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.nextExecution(epochMinute);
+        }
+        long start = System.nanoTime();
+        long result = compiled.nextExecution(epochMinute);
+        CronMetrics.recordExecution(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Returns the last execution strictly before the minute of the given date time.
+     */
+    public Optional<LocalDateTime> previousExecution(LocalDateTime dateTime) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.previousExecution(dateTime);
+        }
+        long start = System.nanoTime();
+        Optional<LocalDateTime> result = compiled.previousExecution(dateTime);
+        CronMetrics.recordExecution(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Returns the last execution strictly before the given minute since the epoch, or {@link #NO_EXECUTION}.
+     */
+    public long previousExecution(long epochMinute) {
+        if (!CronMetrics.isEnabled()) {
+            return compiled.previousExecution(epochMinute);
+        }
+        long start = System.nanoTime();
+        long result = compiled.previousExecution(epochMinute);
+        CronMetrics.recordExecution(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Returns a lazy stream of the executions within {@code [from, to)}.
+     */
+    public Stream<Instant> executions(Instant from, Instant to) {
+        return compiled.executions(from, to);
+    }
+
+    /**
+     * Returns a lazy stream of the executions within {@code [fromEpochMinute, toEpochMinute)} in minutes since the
+     * epoch.
+     */
+    public LongStream executions(long fromEpochMinute, long toEpochMinute) {
+        return compiled.executions(fromEpochMinute, toEpochMinute);
+    }
+
+    /**
+     * Iterates over the executions strictly before the minute of the given date time, latest first.
+     */
+    public Iterator<LocalDateTime> reverseExecutions(LocalDateTime dateTime) {
+        return compiled.reverseExecutions(dateTime);
+    }
+
+    /**
+     * Iterates over the executions strictly before the given minute since the epoch, latest first.
+     */
+    public PrimitiveIterator.OfLong reverseExecutions(long epochMinute) {
+        return compiled.reverseExecutions(epochMinute);
+    }
+
+    public String getStats() {
+        StringBuilder builder = new StringBuilder(STATS_CAPACITY + compiled.getCommand().length());
+        append(builder.append("minute        "), compiled.getMinute()).append('\n');
+        append(builder.append("hour          "), compiled.getHour()).append('\n');
+        append(builder.append("day of month  "), compiled.getDayOfMonth()).append('\n');
+        append(builder.append("month         "), compiled.getMonth()).append('\n');
+        append(builder.append("day of week   "), compiled.getDayOfWeek()).append('\n');
+        return builder.append("command       ").append(compiled.getCommand()).toString();
+    }
+
+    private static StringBuilder append(StringBuilder builder, FieldMask range) {
+        long bits = range.getBits();
+        int first = builder.length();
+        while (bits != 0L) {
+            if (builder.length() > first) {
+                builder.append(' ');
+            }
+            builder.append(Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+        }
+        return builder;
+    }
+
+}
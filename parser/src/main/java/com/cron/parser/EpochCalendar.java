@@ -0,0 +1,86 @@
+package com.cron.parser;
+
+/**
+ * Allocation free proleptic Gregorian calendar arithmetic over epoch days and epoch minutes, counted from
+ * 1970-01-01T00:00 UTC. Dates are returned packed into a single {@code int} as {@code year << 9 | month << 5 | day}.
+ */
+public final class EpochCalendar {
+
+    public static final int MILLIS_PER_MINUTE = 60_000;
+    public static final int SECONDS_PER_MINUTE = 60;
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int HOURS_PER_DAY = 24;
+    public static final int MINUTES_PER_DAY = MINUTES_PER_HOUR * HOURS_PER_DAY;
+    public static final int DAYS_PER_WEEK = 7;
+
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int DAYS_FROM_ERA_TO_EPOCH = 719468;
+    private static final int EPOCH_DAY_OF_WEEK = 4;
+
+    private EpochCalendar() {
+    }
+
+    public static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_ERA_TO_EPOCH;
+    }
+
+    public static long epochMinute(long epochDay, int hour, int minute) {
+        return epochDay * MINUTES_PER_DAY + hour * MINUTES_PER_HOUR + minute;
+    }
+
+    public static int civil(long epochDay) {
+        long shifted = epochDay + DAYS_FROM_ERA_TO_EPOCH;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        long dayOfEra = shifted - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return year << 9 | month << 5 | day;
+    }
+
+    public static int year(int civil) {
+        return civil >> 9;
+    }
+
+    public static int month(int civil) {
+        return (civil >>> 5) & 0xF;
+    }
+
+    public static int dayOfMonth(int civil) {
+        return civil & 0x1F;
+    }
+
+    /**
+     * Returns the day of week of an epoch day, starting with 0 for Sunday like the day of week field.
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, DAYS_PER_WEEK);
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+}
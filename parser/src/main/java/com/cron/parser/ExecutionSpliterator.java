@@ -0,0 +1,77 @@
+package com.cron.parser;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import static com.cron.parser.EpochCalendar.*;
+
+/**
+ * Lazily generates the executions of a schedule within a window of minutes since the epoch. Splitting halves the
+ * remaining window, so parallel streams process independent sub windows without materializing any executions.
+ */
+final class ExecutionSpliterator implements Spliterator.OfLong {
+
+    private static final long MINIMUM_WINDOW = MINUTES_PER_DAY;
+
+    private final CompiledCron compiled;
+    private final long to;
+    private long from;
+
+    ExecutionSpliterator(CompiledCron compiled, long from, long to) {
+        this.compiled = compiled;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (from >= to) {
+            return false;
+        }
+        long execution = compiled.nextExecution(from - 1);
+        if (execution == CompiledCron.NO_EXECUTION || execution >= to) {
+            from = to;
+            return false;
+        }
+        from = execution + 1;
+        action.accept(execution);
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        long window = to - from;
+        if (window < 2 * MINIMUM_WINDOW) {
+            return null;
+        }
+        long middle = from + window / 2;
+        ExecutionSpliterator prefix = new ExecutionSpliterator(compiled, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    /**
+     * Estimates the executions from the share of minutes of a day and of months of a year that match.
+     */
+    @Override
+    public long estimateSize() {
+        if (from >= to) {
+            return 0L;
+        }
+        double dayShare = (double) compiled.getMinute().size() * compiled.getHour().size() / MINUTES_PER_DAY;
+        double yearShare = compiled.getMonth().size() / 12.0;
+        return Math.max(1L, (long) Math.ceil((to - from) * dayShare * yearShare));
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.cron.parser;
+
+import com.cron.parser.bulk.BulkParser;
+import com.cron.parser.bulk.StreamParser;
+import com.cron.parser.metrics.CronMetrics;
+import com.cron.parser.server.CronClient;
+import com.cron.parser.server.CronServer;
+
+import javax.management.JMException;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+public class Main {
+
+    private static final String BULK_OPTION = "--bulk";
+    private static final String STREAM_OPTION = "--stream";
+    private static final String COMPACT_OPTION = "--compact";
+    private static final String SERVER_OPTION = "--server";
+    private static final String CLIENT_OPTION = "--client";
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    public static void main(String[] args) throws IOException, JMException {
+        if (args.length == 2 && BULK_OPTION.equals(args[0])) {
+            bulk(args[1]);
+            return;
+        }
+
+        if (args.length >= 1 && STREAM_OPTION.equals(args[0])) {
+            stream(args);
+            return;
+        }
+
+        if (args.length >= 1 && SERVER_OPTION.equals(args[0])) {
+            server(args);
+            return;
+        }
+
+        if (args.length >= 1 && CLIENT_OPTION.equals(args[0])) {
+            client(args);
+            return;
+        }
+
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Invalid number of input parameters. Usage example: program \"*/15 0 1,15 * 1-5 /usr/bin/find\"");
+        }
+
+        String[] fields = CronParser.split(args[0]);
+
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Invalid number of cron fields. Usage example: program \"*/15 0 1,15 * 1-5 /usr/bin/find\"");
+        }
+
+        CronParser cronParser = new CronParser(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5]);
+
+        System.out.println(cronParser.getStats());
+    }
+
+    private static void bulk(String file) throws IOException {
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        if (new BulkParser().parse(Paths.get(file), output) > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void stream(String[] args) throws IOException {
+        if (args.length > 2 || (args.length == 2 && !COMPACT_OPTION.equals(args[1]))) {
+            throw new IllegalArgumentException("Invalid stream options. Usage example: program --stream --compact < crontab.txt");
+        }
+        StreamParser.Format format = args.length == 2 ? StreamParser.Format.COMPACT : StreamParser.Format.STATS;
+        FileChannel input = new FileInputStream(FileDescriptor.in).getChannel();
+        FileChannel output = new FileOutputStream(FileDescriptor.out).getChannel();
+        if (new StreamParser(format).parse(input, output) > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Serves the expressions and publishes the parser metrics, including the statistics of the server cache, over JMX.
+     */
+    private static void server(String[] args) throws IOException, JMException {
+        if (args.length > 2) {
+            throw new IllegalArgumentException("Invalid server options. Usage example: program --server 8125");
+        }
+        if (System.getProperty(CronServer.NO_DELAY_PROPERTY) == null) {
+            System.setProperty(CronServer.NO_DELAY_PROPERTY, "true");
+        }
+        CronServer server = new CronServer(args.length == 2 ? Integer.parseInt(args[1]) : CronServer.DEFAULT_PORT);
+        CronMetrics.monitor(server.getCache());
+        CronMetrics.register();
+        server.start();
+        System.out.println("Listening on port " + server.getPort());
+    }
+
+    /**
+     * Sends the expression of the arguments, or the expressions of the standard input if there is none, to a running
+     * server.
+     */
+    private static void client(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 5) {
+            throw new IllegalArgumentException("Invalid client options. Usage example: program --client 8125 next \"*/15 0 1,15 * 1-5 /usr/bin/find\" \"from=2020-01-01T00:00&count=5\"");
+        }
+        String expressions = args.length >= 4 ? args[3] : new String(System.in.readAllBytes(), StandardCharsets.UTF_8);
+        String response = new CronClient(Integer.parseInt(args[1])).send(args[2], expressions, args.length == 5 ? args[4] : null);
+        System.out.print(response);
+        if (response.startsWith("line ") || response.contains("\nline ")) {
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.cron.parser.bulk;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.expressions.ExpressionParserException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parses crontab style files with one expression per line, such as {@code "0 0 1,15 * 1-5 /usr/bin/find"}. The file
+ * is memory mapped in line aligned chunks that are parsed in parallel on a {@link ForkJoinPool}, while the results
+ * are written in input order. Only a bounded number of chunks is in flight at once, so the memory use does not
+ * depend on the size of the file.
+ * <p>
+ * Every expression is written as its {@link CronParser#getStats()}, and every invalid line as
+ * {@code "line <number>: <message>"} instead of failing the whole file. Blank lines and comments starting with
+ * {@code #} are skipped.
+ */
+public class BulkParser {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte COMMENT = '#';
+    private static final int PROBE_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BulkParser() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public BulkParser(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size " + chunkSize + " is not positive");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses every line of the file and writes the results to the output, returning the number of invalid lines.
+     */
+    public long parse(Path file, Writer output) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int window = Math.max(2, pool.getParallelism() * 2);
+            Deque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>(window);
+
+            long start = 0L;
+            long lineNumber = 1L;
+            long errors = 0L;
+            while (start < size || !pending.isEmpty()) {
+                while (start < size && pending.size() < window) {
+                    long end = chunkEnd(channel, start, size);
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                    pending.add(pool.submit(() -> parseChunk(buffer)));
+                    start = end;
+                }
+
+                Chunk chunk = pending.poll().join();
+                chunk.writeTo(output, lineNumber);
+                lineNumber += chunk.lines;
+                errors += chunk.errorCount;
+            }
+            output.flush();
+            return errors;
+        }
+    }
+
+    /**
+     * Returns the position just after the first line break at least a chunk size after the start, or the end of the
+     * file.
+     */
+    private long chunkEnd(FileChannel channel, long start, long size) throws IOException {
+        long position = start + chunkSize;
+        if (position >= size) {
+            return size;
+        }
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEW_LINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    static Chunk parseChunk(ByteBuffer buffer) {
+        Chunk chunk = new Chunk();
+        byte[] line = new byte[256];
+        int limit = buffer.limit();
+        int start = 0;
+        while (start < limit) {
+            int end = start;
+            while (end < limit && buffer.get(end) != NEW_LINE) {
+                end++;
+            }
+            int length = end - start;
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            buffer.position(start);
+            buffer.get(line, 0, length);
+            chunk.parse(new String(line, 0, length, StandardCharsets.UTF_8).trim());
+            start = end + 1;
+        }
+        return chunk;
+    }
+
+    /**
+     * Output of the lines of a chunk. The chunk does not know its first line number, so the positions of the error
+     * records are remembered and their line numbers are filled in once the chunk is written.
+     */
+    static final class Chunk {
+
+        private final StringBuilder output = new StringBuilder();
+        private int[] errorPositions = new int[8];
+        private int[] errorLines = new int[8];
+        private int errorCount;
+        private int lines;
+
+        private void parse(String line) {
+            lines++;
+            if (line.isEmpty() || line.charAt(0) == COMMENT) {
+                return;
+            }
+            try {
+                String stats = CronParser.parse(line).getStats();
+                output.append(stats).append('\n');
+            } catch (IllegalArgumentException | ExpressionParserException e) {
+                if (errorCount == errorPositions.length) {
+                    errorPositions = Arrays.copyOf(errorPositions, errorCount * 2);
+                    errorLines = Arrays.copyOf(errorLines, errorCount * 2);
+                }
+                errorPositions[errorCount] = output.length();
+                errorLines[errorCount] = lines - 1;
+                errorCount++;
+                output.append(": ").append(e.getMessage()).append('\n');
+            }
+        }
+
+        void writeTo(Writer writer, long firstLineNumber) throws IOException {
+            int position = 0;
+            for (int i = 0; i < errorCount; i++) {
+                writer.append(output, position, errorPositions[i]);
+                writer.append("line ").append(Long.toString(firstLineNumber + errorLines[i]));
+                position = errorPositions[i];
+            }
+            writer.append(output, position, output.length());
+        }
+
+    }
+
+}
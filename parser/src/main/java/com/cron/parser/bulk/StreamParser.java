@@ -0,0 +1,142 @@
+package com.cron.parser.bulk;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.expressions.ExpressionParserException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filter that reads expressions line by line from a channel and streams the results to another one, using the same
+ * line rules and error records as {@link BulkParser}. Input and output go through fixed size buffers and lines
+ * longer than {@link #MAXIMUM_LINE_LENGTH} bytes are reported as invalid, so the memory use stays bounded however
+ * large the input is.
+ */
+public class StreamParser {
+
+    public enum Format {
+        /**
+         * The {@link CronParser#getStats()} of every expression.
+         */
+        STATS,
+        /**
+         * The canonical expression of every schedule on a single line.
+         */
+        COMPACT
+    }
+
+    public static final int MAXIMUM_LINE_LENGTH = 64 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte NEW_LINE = '\n';
+    private static final char COMMENT = '#';
+
+    private final Format format;
+
+    public StreamParser(Format format) {
+        this.format = format;
+    }
+
+    /**
+     * Parses every line of the input and writes the results to the output, returning the number of invalid lines.
+     * The channels are not closed.
+     */
+    public long parse(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        Output out = new Output(output);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] line = new byte[MAXIMUM_LINE_LENGTH];
+        int length = 0;
+        boolean overflow = false;
+        long lineNumber = 0L;
+        long errors = 0L;
+
+        boolean end = false;
+        while (!end) {
+            end = input.read(buffer) < 0;
+            buffer.flip();
+            while (buffer.hasRemaining() || end && (length > 0 || overflow)) {
+                byte current = buffer.hasRemaining() ? buffer.get() : NEW_LINE;
+                if (current != NEW_LINE) {
+                    if (length < line.length) {
+                        line[length++] = current;
+                    } else {
+                        overflow = true;
+                    }
+                    continue;
+                }
+                lineNumber++;
+                if (overflow) {
+                    out.error(lineNumber, "Line is longer than " + MAXIMUM_LINE_LENGTH + " bytes");
+                    errors++;
+                } else if (!parseLine(new String(line, 0, length, StandardCharsets.UTF_8).trim(), lineNumber, out)) {
+                    errors++;
+                }
+                length = 0;
+                overflow = false;
+            }
+            buffer.clear();
+        }
+        out.flush();
+        return errors;
+    }
+
+    private boolean parseLine(String line, long lineNumber, Output out) throws IOException {
+        if (line.isEmpty() || line.charAt(0) == COMMENT) {
+            return true;
+        }
+        String result;
+        try {
+            CronParser parser = CronParser.parse(line);
+            result = format == Format.STATS ? parser.getStats() : parser.getCompiled().toExpression();
+        } catch (IllegalArgumentException | ExpressionParserException e) {
+            out.error(lineNumber, e.getMessage());
+            return false;
+        }
+        out.write(result);
+        out.write("\n");
+        return true;
+    }
+
+    private static final class Output {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+        private Output(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void error(long lineNumber, String message) throws IOException {
+            write("line " + lineNumber + ": " + message + "\n");
+        }
+
+        private void write(String text) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(text);
+            while (encoder.encode(chars, buffer, true) == CoderResult.OVERFLOW) {
+                drain();
+            }
+            encoder.reset();
+        }
+
+        private void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.cron.parser.cache;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.CronParser;
+import com.cron.parser.metrics.CronMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe, bounded cache of compiled schedules keyed by the normalized text of the five schedule fields, so that
+ * a schedule repeated with any command is parsed once. The command is attached to the cached masks on a hit and the
+ * result is {@link CompiledCron#intern() interned}, so jobs repeating both the schedule and the command share a single
+ * immutable {@link CompiledCron}. The entries are spread over independently locked segments, each evicting its least
+ * recently used entry once it is full.
+ */
+public class CronParserCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private static final int SCHEDULE_FIELD_COUNT = 5;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CronParserCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CronParserCache(int maximumSize) {
+        if (maximumSize < SEGMENT_COUNT) {
+            throw new IllegalArgumentException("Maximum size " + maximumSize + " is below " + SEGMENT_COUNT);
+        }
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(maximumSize / SEGMENT_COUNT + (i < maximumSize % SEGMENT_COUNT ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns a parser of the expression, which is five schedule fields followed by the command like for
+     * {@link CronParser#parse(String)}, attaching the command to the cached schedule or parsing and caching the
+     * schedule on a miss. Schedules that fail to parse are not cached.
+     */
+    public CronParser get(String expression) {
+        String normalized = normalize(expression);
+        int end = scheduleEnd(normalized);
+        String key = normalized.substring(0, end);
+        if (end == normalized.length() || normalized.indexOf(' ', end + 1) >= 0) {
+            throw invalidFieldCount(expression);
+        }
+        String command = normalized.substring(end + 1);
+        Segment segment = segmentFor(key);
+
+        CompiledCron schedule = segment.get(key);
+        if (schedule != null) {
+            hits.increment();
+            return new CronParser(schedule.withCommand(command).intern());
+        }
+
+        misses.increment();
+        String[] fields = key.split(" ");
+        CompiledCron parsed = new CronParser(fields[0], fields[1], fields[2], fields[3], fields[4], "").getCompiled();
+        schedule = segment.putIfAbsent(key, parsed);
+        return new CronParser((schedule != null ? schedule : parsed).withCommand(command).intern());
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long requestCount = hitCount + getMissCount();
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Trims the expression and collapses whitespace between the fields into single spaces. Expressions that are
+     * already normalized are returned as is.
+     */
+    static String normalize(String expression) {
+        int length = expression.length();
+        boolean normalized = length > 0
+                && !Character.isWhitespace(expression.charAt(0))
+                && !Character.isWhitespace(expression.charAt(length - 1));
+        for (int i = 0; normalized && i < length; i++) {
+            char current = expression.charAt(i);
+            normalized = !Character.isWhitespace(current)
+                    || (current == ' ' && !Character.isWhitespace(expression.charAt(i + 1)));
+        }
+        return normalized ? expression : String.join(" ", expression.trim().split("\\s+"));
+    }
+
+    /**
+     * Returns the end of the five schedule fields in the normalized expression.
+     */
+    private static int scheduleEnd(String normalized) {
+        int end = -1;
+        for (int field = 0; field < SCHEDULE_FIELD_COUNT; field++) {
+            if (end == normalized.length()) {
+                throw invalidFieldCount(normalized);
+            }
+            end = normalized.indexOf(' ', end + 1);
+            if (end < 0) {
+                end = normalized.length();
+            }
+        }
+        return end;
+    }
+
+    private static IllegalArgumentException invalidFieldCount(String expression) {
+        if (CronMetrics.isEnabled()) {
+            CronMetrics.recordError(CronMetrics.FIELD_COUNT);
+        }
+        return new IllegalArgumentException("Invalid number of cron fields in " + expression);
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private final class Segment {
+
+        private final Map<String, CompiledCron> entries;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledCron> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized CompiledCron get(String key) {
+            return entries.get(key);
+        }
+
+        private synchronized CompiledCron putIfAbsent(String key, CompiledCron schedule) {
+            return entries.putIfAbsent(key, schedule);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+    }
+
+}
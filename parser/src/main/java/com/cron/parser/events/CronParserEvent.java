@@ -0,0 +1,34 @@
+package com.cron.parser.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of building a parser from the fields of an expression, including the parsing of every field.
+ */
+@Name(CronParserEvent.NAME)
+@Label("Cron Parser Construction")
+@Category({"Cron Parser", "Parsing"})
+@Description("Parsing and compiling of all fields of an expression")
+@StackTrace(false)
+public class CronParserEvent extends Event {
+
+    public static final String NAME = "com.cron.parser.CronParser";
+
+    @Label("Expression")
+    @Description("Fields of the expression separated by spaces, without the command")
+    private String expression;
+
+    @Label("Command")
+    private String command;
+
+    public void set(String minute, String hour, String dayOfMonth, String month, String dayOfWeek, String command) {
+        this.expression = minute + " " + hour + " " + dayOfMonth + " " + month + " " + dayOfWeek;
+        this.command = command;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.cron.parser.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of looking up executions or matching minutes of a compiled schedule. These calls take
+ * nanoseconds and run in tight loops, so only the ones slower than the threshold are recorded by default.
+ */
+@Name(ExecutionEvent.NAME)
+@Label("Execution Lookup")
+@Category({"Cron Parser", "Executions"})
+@Description("Next or previous execution lookup or minute matching of a compiled schedule")
+@Threshold("20 us")
+@StackTrace(false)
+public class ExecutionEvent extends Event {
+
+    public static final String NAME = "com.cron.parser.Execution";
+
+    public static final String NEXT = "next";
+    public static final String PREVIOUS = "previous";
+    public static final String MATCH = "match";
+    public static final String MATCH_BATCH = "match batch";
+
+    @Label("Operation")
+    @Description("next, previous, match or match batch")
+    private String operation;
+
+    @Label("Epoch Minute")
+    @Description("Minute since the epoch the lookup starts from, or the first minute of a batch")
+    private long epochMinute;
+
+    @Label("Result")
+    @Description("Minute since the epoch found, Long.MIN_VALUE if none, or the number of matching minutes")
+    private long result;
+
+    @Label("Count")
+    @Description("Number of minutes matched")
+    private int count;
+
+    public void set(String operation, long epochMinute, long result, int count) {
+        this.operation = operation;
+        this.epochMinute = epochMinute;
+        this.result = result;
+        this.count = count;
+    }
+
+}
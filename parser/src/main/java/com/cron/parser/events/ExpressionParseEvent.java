@@ -0,0 +1,66 @@
+package com.cron.parser.events;
+
+import com.cron.parser.fields.Field;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of parsing the expression of a single field.
+ */
+@Name(ExpressionParseEvent.NAME)
+@Label("Expression Parse")
+@Category({"Cron Parser", "Parsing"})
+@Description("Parsing of the expression of a single field")
+@StackTrace(false)
+public class ExpressionParseEvent extends Event {
+
+    public static final String NAME = "com.cron.parser.ExpressionParse";
+
+    public static final String VALUE = "value";
+    public static final String RANGE = "range";
+    public static final String STEP = "step";
+    public static final String LIST = "list";
+    public static final String ANY = "any";
+
+    @Label("Field")
+    @Description("Type of the field, e.g. MinuteField")
+    private String field;
+
+    @Label("Shape")
+    @Description("Outermost shape of the expression: value, range, step, list or any")
+    private String shape;
+
+    @Label("Expression")
+    private String expression;
+
+    public void set(String expression, Field field) {
+        this.field = field.getClass().getSimpleName();
+        this.shape = shape(expression);
+        this.expression = expression;
+    }
+
+    /**
+     * Classifies the expression by the element of the grammar it starts with, in the same order as the chain of
+     * expressions matches it.
+     */
+    public static String shape(String expression) {
+        if (expression.indexOf(',') >= 0) {
+            return LIST;
+        }
+        if (expression.indexOf('/') >= 0) {
+            return STEP;
+        }
+        if (expression.equals("*")) {
+            return ANY;
+        }
+        if (expression.indexOf('-') >= 0) {
+            return RANGE;
+        }
+        return VALUE;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.cron.parser.events;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+/**
+ * Guards the creation of the events. Loading the first event class initializes the metadata of the flight recorder,
+ * which costs hundreds of milliseconds, and every event is an allocation, so the events are only created while a
+ * running recording enables their type. Once the flight recorder was initialized by a recording started on the
+ * command line, with {@code jcmd} or through the API, the enabled types are cached in flags that a listener refreshes
+ * whenever a recording starts, stops or closes, so the guards cost a couple of volatile reads. Registering the
+ * listener loads the flight recorder internals, so it is deferred until then to keep the cold start short.
+ */
+public final class FlightRecording {
+
+    private static volatile boolean listening;
+
+    private static volatile boolean cronParserEnabled;
+    private static volatile boolean expressionParseEnabled;
+    private static volatile boolean executionEnabled;
+
+    private FlightRecording() {
+    }
+
+    public static boolean isCronParserEnabled() {
+        return (listening || listen()) && cronParserEnabled;
+    }
+
+    public static boolean isExpressionParseEnabled() {
+        return (listening || listen()) && expressionParseEnabled;
+    }
+
+    public static boolean isExecutionEnabled() {
+        return (listening || listen()) && executionEnabled;
+    }
+
+    /**
+     * Registers the listener once the flight recorder is initialized and tells if it is registered.
+     */
+    private static boolean listen() {
+        if (!FlightRecorder.isInitialized()) {
+            return false;
+        }
+        synchronized (FlightRecording.class) {
+            if (!listening) {
+                FlightRecorder.addListener(new FlightRecorderListener() {
+                    @Override
+                    public void recordingStateChanged(Recording recording) {
+                        refresh();
+                    }
+                });
+                refresh();
+                listening = true;
+            }
+        }
+        return true;
+    }
+
+    private static synchronized void refresh() {
+        cronParserEnabled = EventType.getEventType(CronParserEvent.class).isEnabled();
+        expressionParseEnabled = EventType.getEventType(ExpressionParseEvent.class).isEnabled();
+        executionEnabled = EventType.getEventType(ExecutionEvent.class).isEnabled();
+    }
+
+}
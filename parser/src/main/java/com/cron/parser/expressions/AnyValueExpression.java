@@ -1,17 +1,14 @@
 package com.cron.parser.expressions;
 
 import com.cron.parser.fields.Field;
-
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import com.cron.parser.fields.FieldMask;
 
 public class AnyValueExpression extends Expression {
 
     private static final String TOKEN = "*";
 
     public AnyValueExpression(Expression expression) {
-        this.expression = expression;
+        super(expression);
     }
 
     @Override
@@ -20,11 +17,8 @@ public class AnyValueExpression extends Expression {
     }
 
     @Override
-    protected Set<Integer> interpret(String input, Field field) {
-        return IntStream
-                .rangeClosed(field.getMin(), field.getMax())
-                .boxed()
-                .collect(Collectors.toSet());
+    protected FieldMask interpret(String input, Field field) {
+        return FieldMask.range(field.getMin(), field.getMax());
     }
 
 }
@@ -0,0 +1,55 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.events.ExpressionParseEvent;
+import com.cron.parser.events.FlightRecording;
+import com.cron.parser.expressions.ExpressionParserException.Reason;
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.FieldMask;
+
+public abstract class Expression {
+
+    protected final Expression expression;
+
+    protected Expression(Expression expression) {
+        this.expression = expression;
+    }
+
+    protected abstract boolean match(String input);
+
+    protected abstract FieldMask interpret(String input, Field field);
+
+    /**
+     * Parses the input with the first expression of the chain that matches it, recording a single event for the
+     * whole field rather than one for each of the nested expressions.
+     */
+    public FieldMask parse(String input, Field field) {
+        if (!FlightRecording.isExpressionParseEnabled()) {
+            return evaluate(input, field);
+        }
+        ExpressionParseEvent event = new ExpressionParseEvent();
+        event.begin();
+        FieldMask result = evaluate(input, field);
+        if (event.shouldCommit()) {
+            event.set(input, field);
+            event.commit();
+        }
+        return result;
+    }
+
+    protected FieldMask evaluate(String input, Field field) {
+        if (match(input)) {
+            return interpret(input, field);
+        } else {
+            return expression.evaluate(input, field);
+        }
+    }
+
+    protected int parseInt(String input) {
+        try {
+            return Integer.parseInt(input);
+        } catch (NumberFormatException e) {
+            throw new ExpressionParserException(Reason.INVALID_NUMBER, "Cannot parse input " + input + " to an integer value", e);
+        }
+    }
+
+}
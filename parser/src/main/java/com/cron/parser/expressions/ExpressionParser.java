@@ -0,0 +1,215 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.events.ExpressionParseEvent;
+import com.cron.parser.events.FlightRecording;
+import com.cron.parser.expressions.ExpressionParserException.Reason;
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.FieldMask;
+
+/**
+ * Recursive descent parser that reads a field expression in a single pass:
+ * <pre>
+ * list   := slice { "," slice }
+ * slice  := range [ "/" number ]
+ * range  := "*" | number [ "-" number ]
+ * </pre>
+ * Numbers are accumulated while the characters are read, so no intermediate strings or arrays are created. Syntax
+ * errors are only raised once a slice is complete, which keeps the results and the {@link ExpressionParserException}
+ * messages identical to the chain built by {@link ExpressionFactory}.
+ */
+public class ExpressionParser {
+
+    private static final char SEPARATOR_TOKEN = ',';
+    private static final char STEP_TOKEN = '/';
+    private static final char ANY_VALUE_TOKEN = '*';
+    private static final char RANGE_TOKEN = '-';
+
+    private static final long INVALID_NUMBER = Long.MIN_VALUE;
+
+    public FieldMask parse(String input, Field field) {
+        return FieldMask.valueOf(parseBits(input, field));
+    }
+
+    /**
+     * Returns the bits of the mask returned by {@link #parse(String, Field)} without allocating the mask.
+     */
+    public long parseBits(String input, Field field) {
+        if (!FlightRecording.isExpressionParseEnabled()) {
+            return new Cursor(input, field).list();
+        }
+        ExpressionParseEvent event = new ExpressionParseEvent();
+        event.begin();
+        long result = new Cursor(input, field).list();
+        if (event.shouldCommit()) {
+            event.set(input, field);
+            event.commit();
+        }
+        return result;
+    }
+
+    private static final class Cursor {
+
+        private final String input;
+        private final Field field;
+        private final int length;
+
+        private int position;
+
+        private int rangeDash;
+        private int rangeEnd;
+        private long rangeFirst;
+        private long rangeSecond;
+        private int rangeSecondEnd;
+        private boolean rangeTrailing;
+
+        private Cursor(String input, Field field) {
+            this.input = input;
+            this.field = field;
+            this.length = input.length();
+        }
+
+        private long list() {
+            long bits = slice();
+            while (position < length) {
+                position++;
+                bits |= slice();
+            }
+            return bits;
+        }
+
+        private long slice() {
+            int start = position;
+            range();
+            if (position == length || input.charAt(position) == SEPARATOR_TOKEN) {
+                return interpretRange(start);
+            }
+
+            int slash = position++;
+            long step = number(true);
+            int stepEnd = position;
+            boolean trailing = false;
+            while (position < length && input.charAt(position) != SEPARATOR_TOKEN) {
+                trailing |= input.charAt(position) != STEP_TOKEN;
+                position++;
+            }
+
+            if (stepEnd == slash + 1 || trailing) {
+                throw new ExpressionParserException(Reason.INVALID_STEP, "Input " + input.substring(start, position) + " is not valid for step expression for " + field);
+            }
+
+            long range = interpretRange(start);
+            int value = toInt(step, slash + 1, stepEnd);
+
+            if (value < 1) {
+                throw new ExpressionParserException(Reason.NON_POSITIVE_STEP, "Step " + value + " is not valid for " + field);
+            }
+
+            return FieldMask.stepBits(range, value);
+        }
+
+        private void range() {
+            rangeDash = -1;
+            rangeTrailing = false;
+            rangeFirst = number(false);
+            if (position < length && input.charAt(position) == RANGE_TOKEN) {
+                rangeDash = position++;
+                rangeSecond = number(false);
+                rangeSecondEnd = position;
+                while (position < length && !isSliceEnd(input.charAt(position))) {
+                    rangeTrailing |= input.charAt(position) != RANGE_TOKEN;
+                    position++;
+                }
+            }
+            rangeEnd = position;
+        }
+
+        private long interpretRange(int start) {
+            if (rangeEnd - start == 1 && input.charAt(start) == ANY_VALUE_TOKEN) {
+                return FieldMask.rangeBits(field.getMin(), field.getMax());
+            }
+
+            if (rangeDash < 0) {
+                int value = value(rangeFirst, start, rangeEnd);
+                return FieldMask.rangeBits(value, value);
+            }
+
+            if (rangeSecondEnd == rangeDash + 1 || rangeTrailing) {
+                throw new ExpressionParserException(Reason.INVALID_RANGE, "Input " + input.substring(start, rangeEnd) + " is not valid for range expression for " + field);
+            }
+
+            int first = value(rangeFirst, start, rangeDash);
+            int second = value(rangeSecond, rangeDash + 1, rangeSecondEnd);
+
+            if (first > second) {
+                throw new ExpressionParserException(Reason.DESCENDING_RANGE, "Input " + input.substring(start, rangeEnd) + " has starting value greater than ending value");
+            }
+
+            return FieldMask.rangeBits(first, second);
+        }
+
+        /**
+         * Accumulates a decimal number with the same rules as {@link Integer#parseInt(String)}. The range token is
+         * a delimiter inside of a range, while the step accepts it as a sign.
+         */
+        private long number(boolean step) {
+            int start = position;
+            long magnitude = 0L;
+            boolean negative = false;
+            boolean digits = false;
+            boolean invalid = false;
+
+            while (position < length) {
+                char current = input.charAt(position);
+                if (isSliceEnd(current) || (!step && current == RANGE_TOKEN)) {
+                    break;
+                }
+                if (position == start && (current == '-' || current == '+')) {
+                    negative = current == '-';
+                } else {
+                    int digit = Character.digit(current, 10);
+                    if (digit < 0) {
+                        invalid = true;
+                    } else if (magnitude <= -(long) Integer.MIN_VALUE) {
+                        magnitude = magnitude * 10 + digit;
+                        digits = true;
+                    }
+                }
+                position++;
+            }
+
+            if (invalid || !digits || magnitude > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                return INVALID_NUMBER;
+            }
+            return negative ? -magnitude : magnitude;
+        }
+
+        private int value(long number, int start, int end) {
+            int value = toInt(number, start, end);
+
+            if (value < field.getMin()) {
+                throw new ExpressionParserException(Reason.BELOW_LOWER_LIMIT, "Value " + value + " is below the lower limit for " + field);
+            }
+
+            if (value > field.getMax()) {
+                throw new ExpressionParserException(Reason.ABOVE_UPPER_LIMIT, "Value " + value + " is above the upper limit for " + field);
+            }
+
+            return value;
+        }
+
+        private int toInt(long number, int start, int end) {
+            if (number == INVALID_NUMBER) {
+                String token = input.substring(start, end);
+                throw new ExpressionParserException(Reason.INVALID_NUMBER, "Cannot parse input " + token + " to an integer value",
+                        new NumberFormatException("For input string: \"" + token + "\""));
+            }
+            return (int) number;
+        }
+
+        private static boolean isSliceEnd(char current) {
+            return current == SEPARATOR_TOKEN || current == STEP_TOKEN;
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.cron.parser.expressions;
+
+public class ExpressionParserException extends RuntimeException {
+
+    /**
+     * Kind of mistake in the expression, e.g. to count the errors by their cause.
+     */
+    public enum Reason {
+        INVALID_NUMBER,
+        BELOW_LOWER_LIMIT,
+        ABOVE_UPPER_LIMIT,
+        INVALID_RANGE,
+        DESCENDING_RANGE,
+        INVALID_STEP,
+        NON_POSITIVE_STEP,
+        /**
+         * Reason of the exceptions created without one.
+         */
+        OTHER
+    }
+
+    private final Reason reason;
+
+    /**
+     * @deprecated use {@link #ExpressionParserException(Reason, String)}, this one reports {@link Reason#OTHER}
+     */
+    @Deprecated
+    public ExpressionParserException(String message) {
+        this(Reason.OTHER, message);
+    }
+
+    /**
+     * @deprecated use {@link #ExpressionParserException(Reason, String, RuntimeException)}, this one reports
+     * {@link Reason#OTHER}
+     */
+    @Deprecated
+    public ExpressionParserException(String message, RuntimeException exception) {
+        this(Reason.OTHER, message, exception);
+    }
+
+    public ExpressionParserException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public ExpressionParserException(Reason reason, String message, RuntimeException exception) {
+        super(message, exception);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.expressions.ExpressionParserException.Reason;
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.FieldMask;
+
+public class RangeExpression extends Expression {
+
+    private static final String TOKEN = "-";
+
+    public RangeExpression(Expression expression) {
+        super(expression);
+    }
+
+    @Override
+    protected boolean match(String input) {
+        return input.contains(TOKEN);
+    }
+
+    @Override
+    protected FieldMask interpret(String input, Field field) {
+        String[] tokens = input.split(TOKEN);
+
+        if (tokens.length != 2) {
+            throw new ExpressionParserException(Reason.INVALID_RANGE, "Input " + input + " is not valid for range expression for " + field);
+        }
+
+        int start = expression.evaluate(tokens[0], field).min();
+        int end = expression.evaluate(tokens[1], field).min();
+
+        if (start > end) {
+            throw new ExpressionParserException(Reason.DESCENDING_RANGE, "Input " + input + " has starting value greater than ending value");
+        }
+
+        return FieldMask.range(start, end);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.FieldMask;
+
+public class SeparatorExpression extends Expression {
+
+    private static final String TOKEN = ",";
+
+    public SeparatorExpression(Expression expression) {
+        super(expression);
+    }
+
+    @Override
+    protected boolean match(String input) {
+        return input.contains(TOKEN);
+    }
+
+    @Override
+    protected FieldMask interpret(String input, Field field) {
+        FieldMask result = FieldMask.empty();
+        for (String slice : input.split(TOKEN, -1)) {
+            result = result.union(expression.evaluate(slice, field));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.expressions.ExpressionParserException.Reason;
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.FieldMask;
+
+public class StepExpression extends Expression {
+
+    private static final String TOKEN = "/";
+
+    public StepExpression(Expression expression) {
+        super(expression);
+    }
+
+    @Override
+    protected boolean match(String input) {
+        return input.contains(TOKEN);
+    }
+
+    @Override
+    protected FieldMask interpret(String input, Field field) {
+        String[] tokens = input.split(TOKEN);
+
+        if (tokens.length != 2) {
+            throw new ExpressionParserException(Reason.INVALID_STEP, "Input " + input + " is not valid for step expression for " + field);
+        }
+
+        FieldMask range = expression.evaluate(tokens[0], field);
+        int step = parseInt(tokens[1]);
+
+        if (step < 1) {
+            throw new ExpressionParserException(Reason.NON_POSITIVE_STEP, "Step " + step + " is not valid for " + field);
+        }
+
+        return range.step(step);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.expressions.ExpressionParserException.Reason;
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.FieldMask;
+
+public class ValueExpression extends Expression {
+
+    public ValueExpression() {
+        super(null);
+    }
+
+    @Override
+    protected boolean match(String input) {
+        return true;
+    }
+
+    @Override
+    protected FieldMask interpret(String input, Field field) {
+        int value = parseInt(input);
+
+        if (value < field.getMin()) {
+            throw new ExpressionParserException(Reason.BELOW_LOWER_LIMIT, "Value " + value + " is below the lower limit for " + field);
+        }
+
+        if (value > field.getMax()) {
+            throw new ExpressionParserException(Reason.ABOVE_UPPER_LIMIT, "Value " + value + " is above the upper limit for " + field);
+        }
+
+        return FieldMask.range(value, value);
+    }
+
+}
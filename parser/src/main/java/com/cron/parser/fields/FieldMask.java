@@ -0,0 +1,215 @@
+package com.cron.parser.fields;
+
+/**
+ * Immutable set of field values backed by a single {@code long}, where bit {@code n} is set when value {@code n}
+ * belongs to the set. Every {@link Field} range fits into the 0-63 interval.
+ */
+public final class FieldMask {
+
+    public static final int CAPACITY = Long.SIZE;
+
+    private static final FieldMask EMPTY = new FieldMask(0L);
+
+    private final long bits;
+
+    private FieldMask(long bits) {
+        this.bits = bits;
+    }
+
+    public static FieldMask empty() {
+        return EMPTY;
+    }
+
+    public static FieldMask valueOf(long bits) {
+        return bits == 0L ? EMPTY : new FieldMask(bits);
+    }
+
+    public static FieldMask of(int... values) {
+        long bits = 0L;
+        for (int value : values) {
+            bits |= bit(value);
+        }
+        return valueOf(bits);
+    }
+
+    public static FieldMask range(int start, int end) {
+        return valueOf(rangeBits(start, end));
+    }
+
+    public static long rangeBits(int start, int end) {
+        if (start > end) {
+            return 0L;
+        }
+        checkValue(start);
+        checkValue(end);
+        return (-1L >>> (CAPACITY - 1 - end + start)) << start;
+    }
+
+    public static long stepBits(long bits, int step) {
+        if (bits == 0L) {
+            return 0L;
+        }
+        int min = Long.numberOfTrailingZeros(bits);
+        int max = CAPACITY - 1 - Long.numberOfLeadingZeros(bits);
+        if (step == 1) {
+            return rangeBits(min, max);
+        }
+        long result = 0L;
+        for (long value = min; value <= max; value += step) {
+            result |= 1L << value;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lowest value of the bits that is greater than or equal to {@code from}, or -1 if there is none.
+     */
+    public static int next(long bits, int from) {
+        if (from >= CAPACITY) {
+            return -1;
+        }
+        long remaining = bits & (-1L << Math.max(from, 0));
+        return remaining == 0L ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * Returns the highest value of the bits that is less than or equal to {@code from}, or -1 if there is none.
+     */
+    public static int previous(long bits, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        long remaining = bits & (-1L >>> (CAPACITY - 1 - Math.min(from, CAPACITY - 1)));
+        return remaining == 0L ? -1 : CAPACITY - 1 - Long.numberOfLeadingZeros(remaining);
+    }
+
+    public FieldMask union(FieldMask other) {
+        return valueOf(bits | other.bits);
+    }
+
+    /**
+     * Keeps every {@code step}-th value from the lowest to the highest value of this mask.
+     */
+    public FieldMask step(int step) {
+        return valueOf(stepBits(bits, step));
+    }
+
+    public int next(int from) {
+        return next(bits, from);
+    }
+
+    public int previous(int from) {
+        return previous(bits, from);
+    }
+
+    public boolean contains(int value) {
+        return value >= 0 && value < CAPACITY && (bits & (1L << value)) != 0L;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public int min() {
+        return bits == 0L ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    public int max() {
+        return bits == 0L ? -1 : CAPACITY - 1 - Long.numberOfLeadingZeros(bits);
+    }
+
+    /**
+     * Returns the shortest expression that parses back into this mask for the field, preferring a list over a step
+     * of the same length.
+     */
+    public String toExpression(Field field) {
+        long full = rangeBits(field.getMin(), field.getMax());
+        if (bits == full) {
+            return "*";
+        }
+
+        String expression = toList();
+        int min = min();
+        int second = next(min + 1);
+        int step = second - min;
+        if (second > 0 && step > 1 && stepBits(bits, step) == bits) {
+            String stepExpression = min == field.getMin() && stepBits(full, step) == bits
+                    ? "*/" + step
+                    : min + "-" + max() + "/" + step;
+            if (stepExpression.length() < expression.length()) {
+                expression = stepExpression;
+            }
+        }
+        return expression;
+    }
+
+    private String toList() {
+        StringBuilder builder = new StringBuilder();
+        int start = min();
+        while (start >= 0) {
+            int end = start;
+            while (end + 1 < CAPACITY && contains(end + 1)) {
+                end++;
+            }
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(start);
+            if (end - start > 1) {
+                builder.append('-').append(end);
+            } else if (end > start) {
+                builder.append(',').append(end);
+            }
+            start = next(end + 1);
+        }
+        return builder.toString();
+    }
+
+    public long getBits() {
+        return bits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldMask)) {
+            return false;
+        }
+        return bits == ((FieldMask) o).bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("FieldMask{values=[");
+        for (long remaining = bits; remaining != 0L; remaining &= remaining - 1) {
+            if (remaining != bits) {
+                builder.append(", ");
+            }
+            builder.append(Long.numberOfTrailingZeros(remaining));
+        }
+        return builder.append("]}").toString();
+    }
+
+    private static long bit(int value) {
+        checkValue(value);
+        return 1L << value;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0 || value >= CAPACITY) {
+            throw new IllegalArgumentException("Value " + value + " does not fit into a field mask");
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.cron.parser.index;
+
+import java.time.Instant;
+
+import static com.cron.parser.EpochCalendar.SECONDS_PER_MINUTE;
+
+/**
+ * Execution of the schedule with the given id in a minute since the epoch.
+ */
+public final class FireEvent {
+
+    private final int id;
+    private final long epochMinute;
+
+    public FireEvent(int id, long epochMinute) {
+        this.id = id;
+        this.epochMinute = epochMinute;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    public Instant getInstant() {
+        return Instant.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FireEvent)) {
+            return false;
+        }
+        FireEvent that = (FireEvent) o;
+        return id == that.id && epochMinute == that.epochMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * id + Long.hashCode(epochMinute);
+    }
+
+    @Override
+    public String toString() {
+        return "FireEvent{" +
+                "id=" + id +
+                ", time=" + getInstant() +
+                '}';
+    }
+
+}
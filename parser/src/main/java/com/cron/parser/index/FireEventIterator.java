@@ -0,0 +1,104 @@
+package com.cron.parser.index;
+
+import com.cron.parser.CompiledCron;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * K-way merge of the executions of many schedules within {@code [from, to)}. Every schedule contributes its next
+ * execution to a binary min heap kept in parallel primitive arrays, and is advanced with a single next execution
+ * lookup once its execution is emitted, which skips the hours and days the schedule does not match.
+ */
+final class FireEventIterator implements Iterator<FireEvent> {
+
+    private final CompiledCron[] schedules;
+    private final long to;
+
+    private final long[] times;
+    private final int[] ids;
+    private int size;
+
+    FireEventIterator(CompiledCron[] schedules, int idLimit, long from, long to) {
+        this.schedules = schedules;
+        this.to = to;
+
+        int count = 0;
+        for (int id = 0; id < idLimit; id++) {
+            if (schedules[id] != null) {
+                count++;
+            }
+        }
+        this.times = new long[count];
+        this.ids = new int[count];
+
+        for (int id = 0; id < idLimit; id++) {
+            long execution = schedules[id] == null ? CompiledCron.NO_EXECUTION : schedules[id].nextExecution(from - 1);
+            if (inWindow(execution)) {
+                times[size] = execution;
+                ids[size] = id;
+                size++;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return size > 0;
+    }
+
+    @Override
+    public FireEvent next() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int id = ids[0];
+        long time = times[0];
+
+        long execution = schedules[id].nextExecution(time);
+        if (inWindow(execution)) {
+            times[0] = execution;
+        } else {
+            size--;
+            times[0] = times[size];
+            ids[0] = ids[size];
+        }
+        siftDown(0);
+
+        return new FireEvent(id, time);
+    }
+
+    private boolean inWindow(long execution) {
+        return execution != CompiledCron.NO_EXECUTION && execution < to;
+    }
+
+    private void siftDown(int index) {
+        long time = times[index];
+        int id = ids[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(times[child + 1], ids[child + 1], times[child], ids[child])) {
+                child++;
+            }
+            if (!less(times[child], ids[child], time, id)) {
+                break;
+            }
+            times[index] = times[child];
+            ids[index] = ids[child];
+            index = child;
+        }
+        times[index] = time;
+        ids[index] = id;
+    }
+
+    private static boolean less(long time, int id, long otherTime, int otherId) {
+        return time < otherTime || (time == otherTime && id < otherId);
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.cron.parser.index;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.EpochCalendar;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.function.IntConsumer;
+
+import static com.cron.parser.EpochCalendar.*;
+
+/**
+ * Inverted index of compiled schedules. Every value of every field keeps a posting bitset of the schedules that
+ * contain it, so the schedules firing in a minute are found by intersecting five posting lists word by word instead
+ * of testing each schedule. Schedules are identified by the id returned from {@link #add(CompiledCron)}, and the ids
+ * of removed schedules are reused.
+ * <p>
+ * The index is not thread safe and has to be synchronized externally when it is modified concurrently.
+ */
+public class ScheduleIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long[][] minutes = new long[MINUTES_PER_HOUR][];
+    private final long[][] hours = new long[HOURS_PER_DAY][];
+    private final long[][] daysOfMonth = new long[32][];
+    private final long[][] months = new long[13][];
+    private final long[][] daysOfWeek = new long[DAYS_PER_WEEK][];
+    private long[] eitherDayMatching;
+
+    private CompiledCron[] schedules = new CompiledCron[INITIAL_CAPACITY];
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId;
+    private int size;
+
+    public ScheduleIndex() {
+        int words = wordCount(INITIAL_CAPACITY);
+        allocate(minutes, words);
+        allocate(hours, words);
+        allocate(daysOfMonth, words);
+        allocate(months, words);
+        allocate(daysOfWeek, words);
+        eitherDayMatching = new long[words];
+    }
+
+    public int add(CompiledCron compiled) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        if (id >= schedules.length) {
+            grow();
+        }
+        schedules[id] = compiled;
+        update(id, compiled, true);
+        size++;
+        return id;
+    }
+
+    public CompiledCron remove(int id) {
+        CompiledCron compiled = get(id);
+        if (compiled != null) {
+            update(id, compiled, false);
+            schedules[id] = null;
+            if (freeCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+            }
+            freeIds[freeCount++] = id;
+            size--;
+        }
+        return compiled;
+    }
+
+    public CompiledCron get(int id) {
+        return id >= 0 && id < nextId ? schedules[id] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Passes the id of every schedule that fires in the given minute since the epoch to the consumer, in ascending
+     * order of ids.
+     */
+    public void forEachFiring(long epochMinute, IntConsumer consumer) {
+        long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) (epochMinute - epochDay * MINUTES_PER_DAY);
+        int civil = civil(epochDay);
+
+        long[] minute = minutes[minuteOfDay % MINUTES_PER_HOUR];
+        long[] hour = hours[minuteOfDay / MINUTES_PER_HOUR];
+        long[] month = months[EpochCalendar.month(civil)];
+        long[] dayOfMonth = daysOfMonth[EpochCalendar.dayOfMonth(civil)];
+        long[] dayOfWeek = daysOfWeek[EpochCalendar.dayOfWeek(epochDay)];
+
+        int words = wordCount(nextId);
+        for (int word = 0; word < words; word++) {
+            long time = minute[word] & hour[word] & month[word];
+            if (time == 0L) {
+                continue;
+            }
+            long days = dayOfMonth[word] & dayOfWeek[word]
+                    | eitherDayMatching[word] & (dayOfMonth[word] | dayOfWeek[word]);
+            for (long matches = time & days; matches != 0L; matches &= matches - 1) {
+                consumer.accept(word << 6 | Long.numberOfTrailingZeros(matches));
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the schedules that fire in the given minute since the epoch.
+     */
+    public BitSet firing(long epochMinute) {
+        BitSet ids = new BitSet(nextId);
+        forEachFiring(epochMinute, ids::set);
+        return ids;
+    }
+
+    /**
+     * Returns the executions of all schedules within {@code [fromEpochMinute, toEpochMinute)} in minutes since the
+     * epoch, ordered by time and then by id. The executions are merged lazily, so they are streamed without being
+     * collected and sorted first. The index must not be modified while the executions are iterated.
+     */
+    public Iterator<FireEvent> executions(long fromEpochMinute, long toEpochMinute) {
+        return new FireEventIterator(schedules, nextId, fromEpochMinute, toEpochMinute);
+    }
+
+    private void update(int id, CompiledCron compiled, boolean value) {
+        set(minutes, compiled.getMinute().getBits(), id, value);
+        set(hours, compiled.getHour().getBits(), id, value);
+        set(daysOfMonth, compiled.getDayOfMonth().getBits(), id, value);
+        set(months, compiled.getMonth().getBits(), id, value);
+        set(daysOfWeek, compiled.getDayOfWeek().getBits(), id, value);
+        set(eitherDayMatching, id, value && compiled.isEitherDayMatching());
+    }
+
+    private static void set(long[][] postings, long bits, int id, boolean value) {
+        for (int bit = 0; bit < postings.length; bit++) {
+            set(postings[bit], id, value && (bits & (1L << bit)) != 0L);
+        }
+    }
+
+    private static void set(long[] posting, int id, boolean value) {
+        if (value) {
+            posting[id >>> 6] |= 1L << id;
+        } else {
+            posting[id >>> 6] &= ~(1L << id);
+        }
+    }
+
+    private void grow() {
+        schedules = Arrays.copyOf(schedules, schedules.length * 2);
+        int words = wordCount(schedules.length);
+        resize(minutes, words);
+        resize(hours, words);
+        resize(daysOfMonth, words);
+        resize(months, words);
+        resize(daysOfWeek, words);
+        eitherDayMatching = Arrays.copyOf(eitherDayMatching, words);
+    }
+
+    private static void allocate(long[][] postings, int words) {
+        for (int bit = 0; bit < postings.length; bit++) {
+            postings[bit] = new long[words];
+        }
+    }
+
+    private static void resize(long[][] postings, int words) {
+        for (int bit = 0; bit < postings.length; bit++) {
+            postings[bit] = Arrays.copyOf(postings[bit], words);
+        }
+    }
+
+    private static int wordCount(int ids) {
+        return (ids + Long.SIZE - 1) >>> 6;
+    }
+
+}
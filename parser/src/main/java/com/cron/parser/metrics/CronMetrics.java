@@ -0,0 +1,207 @@
+package com.cron.parser.metrics;
+
+import com.cron.parser.cache.CronParserCache;
+import com.cron.parser.expressions.ExpressionParserException.Reason;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process wide parser metrics, published over JMX as {@value #OBJECT_NAME}. Nothing is recorded until the MBean is
+ * {@link #register() registered}, and the parser only reads a volatile flag until then, so the metrics cost nothing
+ * when they are not watched. The counters are striped {@link LongAdder}s, so parsing threads do not contend on them.
+ */
+public final class CronMetrics implements CronMetricsMXBean {
+
+    public static final String OBJECT_NAME = "com.cron.parser:type=CronMetrics";
+
+    /**
+     * Error cause of expressions without exactly five fields and a command.
+     */
+    public static final String FIELD_COUNT = "FIELD_COUNT";
+
+    private static volatile boolean enabled;
+
+    private final LongAdder parses = new LongAdder();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private final LatencyHistogram construction = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+    private final LatencyHistogram match = new LatencyHistogram();
+    private final List<CronParserCache> caches = new CopyOnWriteArrayList<>();
+
+    private CronMetrics() {
+        for (Reason reason : Reason.values()) {
+            errors.put(reason.name(), new LongAdder());
+        }
+        errors.put(FIELD_COUNT, new LongAdder());
+    }
+
+    /**
+     * Created on first use, so a parser that never records metrics does not load the histograms.
+     */
+    private static final class Holder {
+        private static final CronMetrics INSTANCE = new CronMetrics();
+    }
+
+    public static CronMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers the MBean with the platform MBean server and starts recording.
+     */
+    public static synchronized void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(getInstance(), name);
+        }
+        enabled = true;
+    }
+
+    /**
+     * Stops recording and unregisters the MBean. The recorded values are kept until {@link #reset()}.
+     */
+    public static synchronized void unregister() throws JMException {
+        enabled = false;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * Adds the statistics of the cache to the cache attributes, which sum up every monitored cache.
+     */
+    public static void monitor(CronParserCache cache) {
+        getInstance().caches.add(cache);
+    }
+
+    public static void unmonitor(CronParserCache cache) {
+        getInstance().caches.remove(cache);
+    }
+
+    public static void recordConstruction(long nanos) {
+        CronMetrics metrics = getInstance();
+        metrics.parses.increment();
+        metrics.construction.record(nanos);
+    }
+
+    /**
+     * Counts a failed parse by its cause, which is either the name of a
+     * {@link com.cron.parser.expressions.ExpressionParserException.Reason} or {@link #FIELD_COUNT}.
+     */
+    public static void recordError(String cause) {
+        CronMetrics metrics = getInstance();
+        metrics.parses.increment();
+        metrics.errors.get(cause).increment();
+    }
+
+    public static void recordExecution(long nanos) {
+        getInstance().execution.record(nanos);
+    }
+
+    public static void recordMatch(long nanos) {
+        getInstance().match.record(nanos);
+    }
+
+    @Override
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    @Override
+    public long getParseErrorCount() {
+        long count = 0L;
+        for (LongAdder error : errors.values()) {
+            count += error.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getParseErrorCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, LongAdder> error : errors.entrySet()) {
+            counts.put(error.getKey(), error.getValue().sum());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public LatencySnapshot getConstructionLatency() {
+        return construction.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getExecutionLatency() {
+        return execution.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getMatchLatency() {
+        return match.snapshot();
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        long count = 0L;
+        for (CronParserCache cache : caches) {
+            count += cache.getHitCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        long count = 0L;
+        for (CronParserCache cache : caches) {
+            count += cache.getMissCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getCacheEvictionCount() {
+        long count = 0L;
+        for (CronParserCache cache : caches) {
+            count += cache.getEvictionCount();
+        }
+        return count;
+    }
+
+    @Override
+    public double getCacheHitRatio() {
+        long hits = getCacheHitCount();
+        long requests = hits + getCacheMissCount();
+        return requests == 0L ? 0.0 : (double) hits / requests;
+    }
+
+    /**
+     * Clears the parser counters and histograms. The monitored caches keep their own statistics.
+     */
+    @Override
+    public void reset() {
+        parses.reset();
+        for (LongAdder error : errors.values()) {
+            error.reset();
+        }
+        construction.reset();
+        execution.reset();
+        match.reset();
+    }
+
+}
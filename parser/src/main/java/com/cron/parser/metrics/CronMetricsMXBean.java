@@ -0,0 +1,42 @@
+package com.cron.parser.metrics;
+
+import java.util.Map;
+
+public interface CronMetricsMXBean {
+
+    /**
+     * Number of parsers built from fields, including the failed ones.
+     */
+    long getParseCount();
+
+    long getParseErrorCount();
+
+    /**
+     * Number of failed parses by {@link com.cron.parser.expressions.ExpressionParserException.Reason}, or
+     * {@code FIELD_COUNT} for expressions without exactly six fields.
+     */
+    Map<String, Long> getParseErrorCounts();
+
+    LatencySnapshot getConstructionLatency();
+
+    /**
+     * Latency of the next and previous execution lookups.
+     */
+    LatencySnapshot getExecutionLatency();
+
+    /**
+     * Latency of the match calls, where a batch of minutes counts as a single call.
+     */
+    LatencySnapshot getMatchLatency();
+
+    long getCacheHitCount();
+
+    long getCacheMissCount();
+
+    long getCacheEvictionCount();
+
+    double getCacheHitRatio();
+
+    void reset();
+
+}
@@ -0,0 +1,104 @@
+package com.cron.parser.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram in the style of HdrHistogram. Every power of two is split into {@value #SUB_BUCKETS}
+ * linear buckets, so a recorded value is off by at most about 3% from the value reported for it. The buckets are
+ * {@link LongAdder}s, so threads recording at the same time do not contend for a single counter. Values above
+ * {@link #MAXIMUM_VALUE} nanoseconds, about 18 minutes, are counted in the highest bucket.
+ */
+public class LatencyHistogram {
+
+    public static final long MAXIMUM_VALUE = (1L << 40) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = index(MAXIMUM_VALUE) + 1;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0L, Math.min(nanos, MAXIMUM_VALUE));
+        buckets[index(value)].increment();
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Returns a consistent view of the counts. Values recorded while the snapshot is taken may be partially included.
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new LatencySnapshot(
+                count,
+                count == 0L ? 0.0 : (double) sum.sum() / count,
+                percentile(counts, count, 0.50),
+                percentile(counts, count, 0.99),
+                percentile(counts, count, 0.999),
+                max.get()
+        );
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+        max.set(0L);
+    }
+
+    /**
+     * Returns the highest value that falls into the same bucket as the value at the percentile.
+     */
+    private static long percentile(long[] counts, long count, double percentile) {
+        if (count == 0L) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return MAXIMUM_VALUE;
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long top = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+}
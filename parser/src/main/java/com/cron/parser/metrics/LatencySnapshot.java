@@ -0,0 +1,76 @@
+package com.cron.parser.metrics;
+
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Latency statistics in nanoseconds, exposed by the MBean as composite data.
+ */
+public final class LatencySnapshot {
+
+    private final long count;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    public LatencySnapshot(long count, double meanNanos, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Rebuilds the snapshot from the composite data of an MBean proxy.
+     */
+    public static LatencySnapshot from(CompositeData data) {
+        return new LatencySnapshot(
+                (Long) data.get("count"),
+                (Double) data.get("meanNanos"),
+                (Long) data.get("p50Nanos"),
+                (Long) data.get("p99Nanos"),
+                (Long) data.get("p999Nanos"),
+                (Long) data.get("maxNanos")
+        );
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" +
+                "count=" + count +
+                ", meanNanos=" + meanNanos +
+                ", p50Nanos=" + p50Nanos +
+                ", p99Nanos=" + p99Nanos +
+                ", p999Nanos=" + p999Nanos +
+                ", maxNanos=" + maxNanos +
+                '}';
+    }
+
+}
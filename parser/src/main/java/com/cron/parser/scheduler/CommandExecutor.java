@@ -0,0 +1,345 @@
+package com.cron.parser.scheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.spi.AbstractInterruptibleChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the commands of fired jobs as processes through {@code /bin/sh -c}. At most {@code maximumRunning} commands
+ * run at once overall and at most {@code maximumRunningPerJob} of them for the same job; further executions of a
+ * busy job are skipped or queued depending on the {@link OverlapPolicy}, up to {@link #QUEUE_LIMIT} queued executions
+ * per job. Executions that cannot be handed to the executor service, e.g. after closing, are reported as failed, and
+ * so are the executions that closing kills or keeps from starting.
+ * <p>
+ * Standard error is merged into standard output, and the single pipe is drained by the thread that waits for the
+ * process, so a chatty command can never block on a full pipe buffer and no extra thread is needed per process.
+ */
+public class CommandExecutor implements JobListener, AutoCloseable {
+
+    public enum OverlapPolicy {
+        SKIP,
+        QUEUE
+    }
+
+    public static final int OUTPUT_LIMIT = 64 * 1024;
+
+    /**
+     * Executions queued for a busy job beyond this many are skipped.
+     */
+    public static final int QUEUE_LIMIT = 64;
+
+    private static final long NO_QUEUED = Long.MIN_VALUE;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final List<String> SHELL = List.of("/bin/sh", "-c");
+
+    private final ExecutorService executor;
+    private final Semaphore running;
+    private final int maximumRunningPerJob;
+    private final OverlapPolicy overlapPolicy;
+    private final CommandListener listener;
+
+    private final Map<ScheduledJob, JobState> states = new HashMap<>();
+
+    private final Set<Process> processes = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    public CommandExecutor(
+        ExecutorService executor,
+        int maximumRunning,
+        int maximumRunningPerJob,
+        OverlapPolicy overlapPolicy,
+        CommandListener listener
+    ) {
+        if (maximumRunning < 1 || maximumRunningPerJob < 1) {
+            throw new IllegalArgumentException("Maximum running commands must be positive");
+        }
+        this.executor = executor;
+        this.running = new Semaphore(maximumRunning);
+        this.maximumRunningPerJob = maximumRunningPerJob;
+        this.overlapPolicy = overlapPolicy;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates an executor that runs every command on a virtual thread when the JDK supports them, or on a bounded
+     * pool of {@code maximumRunning} threads otherwise.
+     */
+    public static CommandExecutor create(int maximumRunning, int maximumRunningPerJob, OverlapPolicy overlapPolicy, CommandListener listener) {
+        return new CommandExecutor(newExecutorService(maximumRunning), maximumRunning, maximumRunningPerJob, overlapPolicy, listener);
+    }
+
+    static ExecutorService newExecutorService(int maximumThreads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            AtomicInteger threads = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "cron-command-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maximumThreads, maximumThreads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), threadFactory);
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    @Override
+    public void fired(ScheduledJob job, long epochMinute) {
+        boolean skipped;
+        synchronized (states) {
+            JobState state = states.computeIfAbsent(job, key -> new JobState());
+            if (state.running < maximumRunningPerJob) {
+                state.running++;
+                skipped = false;
+            } else if (overlapPolicy == OverlapPolicy.QUEUE && state.offer(epochMinute)) {
+                return;
+            } else {
+                skipped = true;
+            }
+        }
+        if (skipped) {
+            listener.skipped(job, epochMinute);
+        } else {
+            submit(job, epochMinute);
+        }
+    }
+
+    /**
+     * Stops accepting executions, kills the processes still running and waits for their workers to report them as
+     * failed. Executions already handed to the executor service are reported as failed without starting a process.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        executor.shutdown();
+        for (Process process : processes) {
+            if (processes.remove(process)) {
+                kill(process);
+            }
+        }
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Hands the execution to the executor service. A rejected execution is reported as failed and releases its slot,
+     * which goes to the next queued execution of the job.
+     */
+    private void submit(ScheduledJob job, long epochMinute) {
+        long execution = epochMinute;
+        do {
+            long submitted = execution;
+            try {
+                executor.execute(() -> run(job, submitted));
+                return;
+            } catch (RejectedExecutionException e) {
+                listener.failed(job, submitted, e);
+            }
+            execution = release(job);
+        } while (execution != NO_QUEUED);
+    }
+
+    private void run(ScheduledJob job, long epochMinute) {
+        try {
+            running.acquire();
+            try {
+                execute(job, epochMinute);
+            } finally {
+                running.release();
+            }
+        } catch (IOException | RejectedExecutionException e) {
+            listener.failed(job, epochMinute, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listener.failed(job, epochMinute, e);
+        } finally {
+            long queued = release(job);
+            if (queued != NO_QUEUED) {
+                submit(job, queued);
+            }
+        }
+    }
+
+    /**
+     * Runs the command and waits for it, killing the process when the worker is interrupted or the executor closed.
+     * A process is killed by {@link #close()} only after taking it out of the running processes, so a process that is
+     * missing from them once it ended was killed and its execution failed.
+     */
+    private void execute(ScheduledJob job, long epochMinute) throws IOException, InterruptedException {
+        if (closed) {
+            throw new RejectedExecutionException("Command executor is closed");
+        }
+        List<String> command = new ArrayList<>(SHELL);
+        command.add(job.getSchedule().getCommand());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        processes.add(process);
+        try {
+            if (closed && processes.remove(process)) {
+                kill(process);
+                throw new RejectedExecutionException("Command executor is closed");
+            }
+            process.getOutputStream().close();
+            String output = drain(new ProcessChannel(process));
+            int exitCode = process.waitFor();
+            if (!processes.remove(process)) {
+                throw new IOException("Command was killed as the executor closed");
+            }
+            listener.completed(job, epochMinute, exitCode, output);
+        } finally {
+            processes.remove(process);
+            if (process.isAlive()) {
+                kill(process);
+            }
+        }
+    }
+
+    /**
+     * Kills the process together with the processes it started, which would otherwise keep the pipe open.
+     */
+    private static void kill(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    /**
+     * Returns the next queued execution of the job, which takes over the slot of the finished one, or frees the slot
+     * and returns {@link #NO_QUEUED}.
+     */
+    private long release(ScheduledJob job) {
+        synchronized (states) {
+            JobState state = states.get(job);
+            if (state.queued > 0) {
+                return state.poll();
+            }
+            state.running--;
+            if (state.running == 0) {
+                states.remove(job);
+            }
+            return NO_QUEUED;
+        }
+    }
+
+    /**
+     * Reads the pipe until the process closes it and returns the last {@link #OUTPUT_LIMIT} bytes.
+     */
+    private static String drain(ReadableByteChannel input) throws IOException {
+        byte[] tail = new byte[OUTPUT_LIMIT];
+        long total = 0L;
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (ReadableByteChannel channel = input) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    tail[(int) (total++ % OUTPUT_LIMIT)] = buffer.get();
+                }
+                buffer.clear();
+            }
+        }
+        if (total <= OUTPUT_LIMIT) {
+            return new String(tail, 0, (int) total, StandardCharsets.UTF_8);
+        }
+        int start = (int) (total % OUTPUT_LIMIT);
+        byte[] ordered = new byte[OUTPUT_LIMIT];
+        System.arraycopy(tail, start, ordered, 0, OUTPUT_LIMIT - start);
+        System.arraycopy(tail, 0, ordered, OUTPUT_LIMIT - start, start);
+        return new String(ordered, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the output of a process. A blocking read of a pipe ignores interrupts, so interrupting the reading thread
+     * before the end of the output closes the channel by killing the process, which ends the pipe and lets the read
+     * throw {@link java.nio.channels.ClosedByInterruptException}.
+     */
+    private static final class ProcessChannel extends AbstractInterruptibleChannel implements ReadableByteChannel {
+
+        private final Process process;
+        private final InputStream input;
+
+        private volatile boolean ended;
+
+        private ProcessChannel(Process process) {
+            this.process = process;
+            this.input = process.getInputStream();
+        }
+
+        @Override
+        public int read(ByteBuffer buffer) throws IOException {
+            int read = 0;
+            try {
+                begin();
+                read = input.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                if (read > 0) {
+                    buffer.position(buffer.position() + read);
+                }
+                ended = read < 0;
+                return read;
+            } finally {
+                end(read > 0);
+            }
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            if (!ended) {
+                kill(process);
+            }
+            input.close();
+        }
+
+    }
+
+    /**
+     * Running count and bounded ring buffer of the queued executions of a job.
+     */
+    private static final class JobState {
+
+        private int running;
+
+        private long[] executions;
+        private int head;
+        private int queued;
+
+        private boolean offer(long epochMinute) {
+            if (queued == QUEUE_LIMIT) {
+                return false;
+            }
+            if (executions == null) {
+                executions = new long[QUEUE_LIMIT];
+            }
+            executions[(head + queued++) % QUEUE_LIMIT] = epochMinute;
+            return true;
+        }
+
+        private long poll() {
+            long epochMinute = executions[head];
+            head = (head + 1) % QUEUE_LIMIT;
+            queued--;
+            return epochMinute;
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.cron.parser.scheduler;
+
+/**
+ * Receives the outcome of the commands started by a {@link CommandExecutor}.
+ */
+public interface CommandListener {
+
+    /**
+     * Called once the command exited, with the tail of its combined standard output and error.
+     */
+    void completed(ScheduledJob job, long epochMinute, int exitCode, String output);
+
+    default void skipped(ScheduledJob job, long epochMinute) {
+    }
+
+    default void failed(ScheduledJob job, long epochMinute, Exception exception) {
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.cron.parser.scheduler;
+
+@FunctionalInterface
+public interface JobListener {
+
+    void fired(ScheduledJob job, long epochMinute);
+
+    /**
+     * Called at the end of every {@link TimingWheelScheduler#tick()} with the current minute of the scheduler, after
+     * the jobs that were due fired and also when none of them did.
+     */
+    default void ticked(long epochMinute) {
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.cron.parser.scheduler;
+
+import com.cron.parser.CompiledCron;
+
+/**
+ * Handle of a schedule armed in a {@link TimingWheelScheduler}. The handle is also the node of the intrusive list of
+ * its timing wheel slot, so that it can be moved and cancelled in constant time.
+ */
+public final class ScheduledJob {
+
+    /**
+     * Id of the jobs that were scheduled without one.
+     */
+    public static final int NO_ID = -1;
+
+    private final TimingWheelScheduler scheduler;
+    private final int id;
+    private final CompiledCron schedule;
+
+    SlotList slot;
+    ScheduledJob previous;
+    ScheduledJob next;
+    long execution = CompiledCron.NO_EXECUTION;
+
+    ScheduledJob(TimingWheelScheduler scheduler, int id, CompiledCron schedule) {
+        this.scheduler = scheduler;
+        this.id = id;
+        this.schedule = schedule;
+    }
+
+    /**
+     * Returns the id the job was scheduled with, or {@link #NO_ID}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public CompiledCron getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Returns the minute since the epoch the job is armed for, or {@link CompiledCron#NO_EXECUTION} once it is
+     * cancelled or its schedule does not fire anymore.
+     */
+    public long getNextExecution() {
+        synchronized (scheduler) {
+            return execution;
+        }
+    }
+
+    public boolean isScheduled() {
+        return getNextExecution() != CompiledCron.NO_EXECUTION;
+    }
+
+    public boolean cancel() {
+        return scheduler.cancel(this);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledJob{" +
+                "id=" + id +
+                ", schedule=" + schedule +
+                ", nextExecution=" + getNextExecution() +
+                '}';
+    }
+
+}
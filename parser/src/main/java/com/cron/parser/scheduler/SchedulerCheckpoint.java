@@ -0,0 +1,335 @@
+package com.cron.parser.scheduler;
+
+import com.cron.parser.CompiledCron;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+/**
+ * Memory mapped state of a {@link TimingWheelScheduler}, so that a restarted process continues with the executions
+ * armed before instead of looking up every schedule again. The file holds a fixed size record per job id with the
+ * last fired and the next armed minute since the epoch, a fingerprint of the schedule and a checksum:
+ * <pre>
+ * header := magic:int32 version:int16 reserved:int16 capacity:int32 reserved:int32
+ * record := lastExecution:int64 nextExecution:int64 fingerprint:int32 checksum:int32
+ * </pre>
+ * Records are updated in place as the jobs fire, and the mapping is forced to the disk on the first tick of the
+ * scheduler once the interval elapsed, whether jobs fired or not, so a crash loses at most the updates of the last
+ * interval and the ticks in between. The checkpoint is the listener of the scheduler and passes every fired job and
+ * tick on to the given listener once its record is updated.
+ */
+public class SchedulerCheckpoint implements JobListener, AutoCloseable {
+
+    public static final int MAGIC = 0x4B435243;
+    public static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 2 * Long.BYTES + 2 * Integer.BYTES;
+
+    private static final int MAXIMUM_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private static final long FINGERPRINT_SEED = 0x4B43524346505231L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final Clock clock;
+    private final long forceIntervalMillis;
+    private final JobListener listener;
+
+    private long lastForce;
+    private boolean dirty;
+    private int restoredCount;
+    private int rearmedCount;
+
+    private SchedulerCheckpoint(MappedByteBuffer buffer, int capacity, Clock clock, Duration forceInterval, JobListener listener) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.forceIntervalMillis = forceInterval.toMillis();
+        this.listener = listener;
+        this.lastForce = clock.millis();
+    }
+
+    /**
+     * Opens the checkpoint file, or creates it with records for the given number of job ids. An existing file is
+     * extended when it holds fewer records.
+     */
+    public static SchedulerCheckpoint open(Path file, int capacity, Duration forceInterval, JobListener listener)
+            throws IOException {
+        return open(file, capacity, Clock.systemUTC(), forceInterval, listener);
+    }
+
+    /**
+     * Opens the checkpoint file like {@link #open(Path, int, Duration, JobListener)}, measuring the force interval
+     * with the given clock, e.g. the clock of the scheduler.
+     */
+    public static SchedulerCheckpoint open(Path file, int capacity, Clock clock, Duration forceInterval, JobListener listener)
+            throws IOException {
+        if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is not within 0 and " + MAXIMUM_CAPACITY);
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size > 0L) {
+                capacity = Math.max(capacity, checkHeader(channel, file));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC)
+                .putShort(4, VERSION)
+                .putShort(6, (short) 0)
+                .putInt(8, capacity)
+                .putInt(12, 0);
+        return new SchedulerCheckpoint(buffer, capacity, clock, forceInterval, listener);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Schedules the job with the given id and records its first execution.
+     */
+    public synchronized ScheduledJob schedule(TimingWheelScheduler scheduler, int id, CompiledCron schedule) {
+        checkId(id);
+        ScheduledJob job = scheduler.schedule(id, schedule);
+        write(id, CompiledCron.NO_EXECUTION, job.getNextExecution(), fingerprint(schedule));
+        return job;
+    }
+
+    /**
+     * Cancels the job and clears its record.
+     */
+    public synchronized boolean cancel(ScheduledJob job) {
+        boolean cancelled = job.cancel();
+        if (job.getId() != ScheduledJob.NO_ID) {
+            clear(job.getId());
+        }
+        return cancelled;
+    }
+
+    @Override
+    public void fired(ScheduledJob job, long epochMinute) {
+        if (job.getId() != ScheduledJob.NO_ID) {
+            synchronized (this) {
+                write(job.getId(), epochMinute, job.getNextExecution(), fingerprint(job.getSchedule()));
+            }
+        }
+        listener.fired(job, epochMinute);
+    }
+
+    /**
+     * Forces the records to the disk once the interval elapsed since they were forced last.
+     */
+    @Override
+    public void ticked(long epochMinute) {
+        synchronized (this) {
+            long now = clock.millis();
+            if (now - lastForce >= forceIntervalMillis) {
+                force(now);
+            }
+        }
+        listener.ticked(epochMinute);
+    }
+
+    /**
+     * Tells if records were updated since they were forced to the disk last.
+     */
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Returns the last recorded execution of the job, or {@link CompiledCron#NO_EXECUTION} if there is no intact
+     * record of it.
+     */
+    public synchronized long getLastExecution(int id) {
+        checkId(id);
+        int offset = offset(id);
+        return isIntact(offset) ? buffer.getLong(offset) : CompiledCron.NO_EXECUTION;
+    }
+
+    /**
+     * Returns the recorded next execution of the job, or {@link CompiledCron#NO_EXECUTION} if there is no intact
+     * record of it.
+     */
+    public synchronized long getNextExecution(int id) {
+        checkId(id);
+        int offset = offset(id);
+        return isIntact(offset) ? buffer.getLong(offset + Long.BYTES) : CompiledCron.NO_EXECUTION;
+    }
+
+    /**
+     * Rebuilds the scheduler from the records of the job ids below the count, whose schedules are given by id, e.g.
+     * by {@link com.cron.parser.store.MappedSchedules#get(int)}. A job is armed for its recorded next execution when
+     * the record is intact, belongs to the same schedule and the execution is a future execution of that schedule.
+     * Otherwise, e.g. after an execution was missed while the process was down, the job is armed for its first
+     * execution after the current minute and the record is rewritten. Records of ids without a schedule are cleared.
+     *
+     * @return the jobs by id, with {@code null} for the ids without a schedule
+     */
+    public synchronized ScheduledJob[] recover(TimingWheelScheduler scheduler, IntFunction<CompiledCron> schedules, int count) {
+        if (count < 0 || count > capacity) {
+            throw new IllegalArgumentException("Count " + count + " is not within 0 and " + capacity);
+        }
+        restoredCount = 0;
+        rearmedCount = 0;
+        long currentMinute = scheduler.getCurrentMinute();
+        ScheduledJob[] jobs = new ScheduledJob[count];
+        for (int id = 0; id < count; id++) {
+            CompiledCron schedule = schedules.apply(id);
+            int offset = offset(id);
+            if (schedule == null) {
+                clear(id);
+                continue;
+            }
+            long lastExecution = buffer.getLong(offset);
+            long nextExecution = buffer.getLong(offset + Long.BYTES);
+            int fingerprint = fingerprint(schedule);
+            boolean intact = isIntact(offset) && buffer.getInt(offset + 2 * Long.BYTES) == fingerprint;
+            if (intact && nextExecution > currentMinute && lastExecution < nextExecution
+                    && schedule.matchesMinute(nextExecution)) {
+                jobs[id] = scheduler.restore(id, schedule, nextExecution);
+                restoredCount++;
+            } else {
+                jobs[id] = scheduler.schedule(id, schedule);
+                write(id, intact ? lastExecution : CompiledCron.NO_EXECUTION, jobs[id].getNextExecution(), fingerprint);
+                rearmedCount++;
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Returns the number of jobs the last recovery armed for their recorded execution.
+     */
+    public synchronized int getRestoredCount() {
+        return restoredCount;
+    }
+
+    /**
+     * Returns the number of jobs the last recovery had to look up the next execution for.
+     */
+    public synchronized int getRearmedCount() {
+        return rearmedCount;
+    }
+
+    /**
+     * Writes the updated records to the disk.
+     */
+    public synchronized void force() {
+        force(clock.millis());
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+    }
+
+    private void force(long now) {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+        lastForce = now;
+    }
+
+    private void write(int id, long lastExecution, long nextExecution, int fingerprint) {
+        int offset = offset(id);
+        buffer.putLong(offset, lastExecution)
+                .putLong(offset + Long.BYTES, nextExecution)
+                .putInt(offset + 2 * Long.BYTES, fingerprint)
+                .putInt(offset + 2 * Long.BYTES + Integer.BYTES, checksum(lastExecution, nextExecution, fingerprint));
+        dirty = true;
+    }
+
+    private void clear(int id) {
+        int offset = offset(id);
+        if (buffer.getInt(offset + 2 * Long.BYTES + Integer.BYTES) != 0) {
+            buffer.putLong(offset, 0L)
+                    .putLong(offset + Long.BYTES, 0L)
+                    .putLong(offset + 2 * Long.BYTES, 0L);
+            dirty = true;
+        }
+    }
+
+    private boolean isIntact(int offset) {
+        long lastExecution = buffer.getLong(offset);
+        long nextExecution = buffer.getLong(offset + Long.BYTES);
+        int fingerprint = buffer.getInt(offset + 2 * Long.BYTES);
+        return buffer.getInt(offset + 2 * Long.BYTES + Integer.BYTES) == checksum(lastExecution, nextExecution, fingerprint);
+    }
+
+    /**
+     * Returns the fingerprint stored in the records of a schedule, which tells if a record still belongs to the
+     * schedule of its job id after a restart. The five masks from minute to day of week and then the UTF-16 code units
+     * of the command are folded into a 64 bit FNV-1a style hash, whose halves are mixed into 32 bits. The fingerprint
+     * is part of the file format, so unlike {@link CompiledCron#hashCode()} it is stable across releases.
+     */
+    static int fingerprint(CompiledCron schedule) {
+        long hash = FINGERPRINT_SEED;
+        hash = (hash ^ schedule.getMinute().getBits()) * FNV_PRIME;
+        hash = (hash ^ schedule.getHour().getBits()) * FNV_PRIME;
+        hash = (hash ^ schedule.getDayOfMonth().getBits()) * FNV_PRIME;
+        hash = (hash ^ schedule.getMonth().getBits()) * FNV_PRIME;
+        hash = (hash ^ schedule.getDayOfWeek().getBits()) * FNV_PRIME;
+        String command = schedule.getCommand();
+        for (int i = 0; i < command.length(); i++) {
+            hash = (hash ^ command.charAt(i)) * FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Mixes the fields of a record, so that a record torn by a crash is detected. The checksum is never zero, which
+     * makes the zeroed records of a new or extended file invalid.
+     */
+    private static int checksum(long lastExecution, long nextExecution, int fingerprint) {
+        long hash = lastExecution * 0x9E3779B97F4A7C15L + nextExecution;
+        hash = (hash ^ (hash >>> 29)) * 0xBF58476D1CE4E5B9L + fingerprint;
+        hash ^= hash >>> 32;
+        return (int) hash | 1;
+    }
+
+    private static int checkHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // reads the whole header
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+            throw new IOException("File " + file + " is not a scheduler checkpoint");
+        }
+        if (header.getShort(4) != VERSION) {
+            throw new IOException("Unsupported scheduler checkpoint version " + header.getShort(4));
+        }
+        int capacity = header.getInt(8);
+        if (capacity < 0 || capacity > MAXIMUM_CAPACITY || channel.size() < HEADER_SIZE + (long) capacity * RECORD_SIZE) {
+            throw new IOException("Invalid scheduler checkpoint header of " + file);
+        }
+        return capacity;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= capacity) {
+            throw new IllegalArgumentException("Job id " + id + " is not within 0 and " + capacity);
+        }
+    }
+
+    private static int offset(int id) {
+        return HEADER_SIZE + id * RECORD_SIZE;
+    }
+
+}
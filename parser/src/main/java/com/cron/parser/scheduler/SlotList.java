@@ -0,0 +1,48 @@
+package com.cron.parser.scheduler;
+
+/**
+ * Circular doubly linked list of the jobs in a timing wheel slot, with a sentinel node as the head.
+ */
+final class SlotList {
+
+    private final ScheduledJob head = new ScheduledJob(null, ScheduledJob.NO_ID, null);
+
+    private int size;
+
+    SlotList() {
+        head.previous = head;
+        head.next = head;
+    }
+
+    void add(ScheduledJob job) {
+        job.slot = this;
+        job.previous = head.previous;
+        job.next = head;
+        head.previous.next = job;
+        head.previous = job;
+        size++;
+    }
+
+    void remove(ScheduledJob job) {
+        job.previous.next = job.next;
+        job.next.previous = job.previous;
+        job.previous = null;
+        job.next = null;
+        job.slot = null;
+        size--;
+    }
+
+    ScheduledJob poll() {
+        if (size == 0) {
+            return null;
+        }
+        ScheduledJob job = head.next;
+        remove(job);
+        return job;
+    }
+
+    int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.cron.parser.scheduler;
+
+import com.cron.parser.CompiledCron;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cron.parser.EpochCalendar.*;
+
+/**
+ * Scheduler that arms compiled schedules in a hierarchical timing wheel with minute, hour and day levels. A job is
+ * placed in the minute wheel when it fires within the hour, in the hour wheel when it fires within the day and in the
+ * day wheel when it fires within a year; the rare jobs beyond that wait in an overflow list. Whenever a new hour or
+ * day starts, its slot is cascaded down a level. Scheduling, cancelling and firing a job take constant time, and a
+ * fired job is re-armed with the next execution of its schedule.
+ * <p>
+ * Time only advances when {@link #tick()} is called, e.g. every few seconds from a single thread, and is read from
+ * the given {@link Clock}, which makes simulated time easy to drive in tests. The listener is called outside of the
+ * scheduler lock and should hand long running work over to another thread.
+ */
+public class TimingWheelScheduler {
+
+    private static final int DAY_SLOTS = 366;
+
+    private final Clock clock;
+    private final JobListener listener;
+
+    private final SlotList[] minutes = slots(MINUTES_PER_HOUR);
+    private final SlotList[] hours = slots(HOURS_PER_DAY);
+    private final SlotList[] days = slots(DAY_SLOTS);
+    private final SlotList overflow = new SlotList();
+
+    private long currentMinute;
+    private int size;
+
+    public TimingWheelScheduler(Clock clock, JobListener listener) {
+        this.clock = clock;
+        this.listener = listener;
+        this.currentMinute = currentEpochMinute();
+    }
+
+    /**
+     * Arms the schedule for its first execution after the current minute.
+     */
+    public synchronized ScheduledJob schedule(CompiledCron schedule) {
+        return schedule(ScheduledJob.NO_ID, schedule);
+    }
+
+    /**
+     * Arms the schedule of the job with the given id for its first execution after the current minute.
+     */
+    public synchronized ScheduledJob schedule(int id, CompiledCron schedule) {
+        ScheduledJob job = new ScheduledJob(this, id, schedule);
+        arm(job, schedule.nextExecution(currentMinute));
+        return job;
+    }
+
+    /**
+     * Arms the schedule of the job with the given id for an execution that was armed before, e.g. by a process whose
+     * state was checkpointed, without looking it up again.
+     */
+    public synchronized ScheduledJob restore(int id, CompiledCron schedule, long execution) {
+        if (execution <= currentMinute) {
+            throw new IllegalArgumentException("Execution " + execution + " is not after the current minute " + currentMinute);
+        }
+        ScheduledJob job = new ScheduledJob(this, id, schedule);
+        arm(job, execution);
+        return job;
+    }
+
+    public synchronized boolean cancel(ScheduledJob job) {
+        if (job.slot == null) {
+            return false;
+        }
+        job.slot.remove(job);
+        job.execution = CompiledCron.NO_EXECUTION;
+        size--;
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getCurrentMinute() {
+        return currentMinute;
+    }
+
+    /**
+     * Advances the wheels minute by minute up to the current minute of the clock and fires the jobs that are due,
+     * returning how many of them fired. The listener is told about the tick once the jobs fired.
+     */
+    public int tick() {
+        long now = currentEpochMinute();
+        List<ScheduledJob> due = new ArrayList<>();
+        int fired = 0;
+        long minute;
+        while (true) {
+            synchronized (this) {
+                if (currentMinute >= now) {
+                    minute = currentMinute;
+                    break;
+                }
+                minute = ++currentMinute;
+                advance(minute, due);
+            }
+            for (ScheduledJob job : due) {
+                listener.fired(job, minute);
+            }
+            fired += due.size();
+            due.clear();
+        }
+        listener.ticked(minute);
+        return fired;
+    }
+
+    private void advance(long minute, List<ScheduledJob> due) {
+        if (Math.floorMod(minute, MINUTES_PER_DAY) == 0) {
+            cascade(days[(int) Math.floorMod(Math.floorDiv(minute, MINUTES_PER_DAY), DAY_SLOTS)]);
+            for (int count = overflow.size(); count > 0; count--) {
+                insert(overflow.poll());
+            }
+        }
+        if (Math.floorMod(minute, MINUTES_PER_HOUR) == 0) {
+            cascade(hours[(int) Math.floorMod(Math.floorDiv(minute, MINUTES_PER_HOUR), HOURS_PER_DAY)]);
+        }
+
+        SlotList slot = minutes[(int) Math.floorMod(minute, MINUTES_PER_HOUR)];
+        for (ScheduledJob job = slot.poll(); job != null; job = slot.poll()) {
+            size--;
+            due.add(job);
+            arm(job, job.getSchedule().nextExecution(minute));
+        }
+    }
+
+    private void cascade(SlotList slot) {
+        for (ScheduledJob job = slot.poll(); job != null; job = slot.poll()) {
+            insert(job);
+        }
+    }
+
+    private void arm(ScheduledJob job, long execution) {
+        job.execution = execution;
+        if (execution != CompiledCron.NO_EXECUTION) {
+            insert(job);
+            size++;
+        }
+    }
+
+    private void insert(ScheduledJob job) {
+        long execution = job.execution;
+        long delay = execution - currentMinute;
+        if (delay < MINUTES_PER_HOUR) {
+            minutes[(int) Math.floorMod(execution, MINUTES_PER_HOUR)].add(job);
+        } else if (delay < MINUTES_PER_DAY) {
+            hours[(int) Math.floorMod(Math.floorDiv(execution, MINUTES_PER_HOUR), HOURS_PER_DAY)].add(job);
+        } else if (delay < (long) DAY_SLOTS * MINUTES_PER_DAY) {
+            days[(int) Math.floorMod(Math.floorDiv(execution, MINUTES_PER_DAY), DAY_SLOTS)].add(job);
+        } else {
+            overflow.add(job);
+        }
+    }
+
+    private long currentEpochMinute() {
+        return Math.floorDiv(clock.millis(), MILLIS_PER_MINUTE);
+    }
+
+    private static SlotList[] slots(int count) {
+        SlotList[] slots = new SlotList[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = new SlotList();
+        }
+        return slots;
+    }
+
+}
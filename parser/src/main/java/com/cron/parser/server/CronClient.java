@@ -0,0 +1,50 @@
+package com.cron.parser.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Client of a {@link CronServer} running on the loopback interface.
+ */
+public class CronClient {
+
+    private final int port;
+
+    public CronClient(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Sends the expressions, one per line, to the endpoint of the operation and returns the response. The query is
+     * appended to the URL as is and may be {@code null}.
+     */
+    public String send(String operation, String expressions, String query) throws IOException {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), port,
+                "/" + operation + (query == null ? "" : "?" + query));
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "text/plain; charset=utf-8");
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(expressions.getBytes(StandardCharsets.UTF_8));
+            }
+            int status = connection.getResponseCode();
+            try (InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                String response = input == null ? "" : new String(input.readAllBytes(), StandardCharsets.UTF_8);
+                if (status != HttpURLConnection.HTTP_OK) {
+                    throw new IOException("Server responded with " + status + ": " + response.trim());
+                }
+                return response;
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.cron.parser.server;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.cache.CronParserCache;
+import com.cron.parser.expressions.ExpressionParserException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long running HTTP server on the loopback interface, so that tools can parse expressions without starting a JVM
+ * for each of them. Parsed expressions are kept in a {@link CronParserCache} between requests, which accepts and
+ * rejects the same expressions as {@link CronParser#parse(String)}, so the verdicts match the command line.
+ * <p>
+ * Every endpoint takes a {@code POST} body of expressions, one per line, and answers with one result per expression
+ * in the same order, or with {@code "line <number>: <message>"} for an invalid one:
+ * <ul>
+ * <li>{@code /parse} answers the {@link CronParser#getStats()} of every expression</li>
+ * <li>{@code /validate} answers {@code valid} for every valid expression</li>
+ * <li>{@code /next?from=2020-01-01T00:00&count=3} answers the next executions in UTC after {@code from}, which
+ * defaults to now, separated by spaces, or {@code never} if the schedule does not fire</li>
+ * </ul>
+ */
+public class CronServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8125;
+
+    public static final String PARSE = "parse";
+    public static final String VALIDATE = "validate";
+    public static final String NEXT = "next";
+
+    static final String VALID = "valid";
+    static final String NEVER = "never";
+
+    private static final int MAXIMUM_REQUEST_SIZE = 16 * 1024 * 1024;
+    private static final int MAXIMUM_COUNT = 1_000;
+    private static final char COMMENT = '#';
+
+    /**
+     * System property that disables Nagle's algorithm on the connections of the JDK HTTP server. Without it the
+     * response body waits for the delayed acknowledgement of the headers, about 40 ms per request. It is read once
+     * when the HTTP server classes are loaded, so it has to be set at launch, as {@code --server} does.
+     */
+    public static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final CronParserCache cache;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public CronServer(int port) throws IOException {
+        this(port, new CronParserCache());
+    }
+
+    /**
+     * Binds the server to the port of the loopback address, or to any free port if the port is zero.
+     */
+    public CronServer(int port, CronParserCache cache) throws IOException {
+        this.cache = cache;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        server.setExecutor(executor);
+        server.createContext("/" + PARSE, exchange -> handle(exchange, PARSE));
+        server.createContext("/" + VALIDATE, exchange -> handle(exchange, VALIDATE));
+        server.createContext("/" + NEXT, exchange -> handle(exchange, NEXT));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public CronParserCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.stop(0);
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    private void handle(HttpExchange exchange, String operation) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "Method " + exchange.getRequestMethod() + " is not allowed\n");
+                return;
+            }
+            byte[] body = read(exchange.getRequestBody());
+            if (body == null) {
+                respond(exchange, 413, "Request is larger than " + MAXIMUM_REQUEST_SIZE + " bytes\n");
+                return;
+            }
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            LocalDateTime from;
+            int count;
+            try {
+                from = query.containsKey("from")
+                        ? LocalDateTime.parse(query.get("from"))
+                        : LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+                count = query.containsKey("count") ? Integer.parseInt(query.get("count")) : 1;
+            } catch (DateTimeParseException | NumberFormatException e) {
+                respond(exchange, 400, e.getMessage() + "\n");
+                return;
+            }
+            if (count < 1 || count > MAXIMUM_COUNT) {
+                respond(exchange, 400, "Count " + count + " is not between 1 and " + MAXIMUM_COUNT + "\n");
+                return;
+            }
+            respond(exchange, 200, process(new String(body, StandardCharsets.UTF_8), operation, from, count));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String process(String body, String operation, LocalDateTime from, int count) {
+        StringBuilder response = new StringBuilder();
+        int lineNumber = 0;
+        for (String line : body.split("\n", -1)) {
+            lineNumber++;
+            String expression = line.trim();
+            if (expression.isEmpty() || expression.charAt(0) == COMMENT) {
+                continue;
+            }
+            CronParser parser;
+            try {
+                parser = cache.get(expression);
+            } catch (IllegalArgumentException | ExpressionParserException e) {
+                response.append("line ").append(lineNumber).append(": ").append(e.getMessage()).append('\n');
+                continue;
+            }
+            switch (operation) {
+                case PARSE:
+                    response.append(parser.getStats());
+                    break;
+                case VALIDATE:
+                    response.append(VALID);
+                    break;
+                default:
+                    appendNextExecutions(response, parser, from, count);
+            }
+            response.append('\n');
+        }
+        return response.toString();
+    }
+
+    private static void appendNextExecutions(StringBuilder response, CronParser parser, LocalDateTime from, int count) {
+        LocalDateTime current = from;
+        for (int i = 0; i < count; i++) {
+            LocalDateTime next = parser.nextExecution(current).orElse(null);
+            if (next == null) {
+                if (i == 0) {
+                    response.append(NEVER);
+                }
+                return;
+            }
+            if (i > 0) {
+                response.append(' ');
+            }
+            response.append(next);
+            current = next;
+        }
+    }
+
+    private static byte[] read(InputStream input) throws IOException {
+        byte[] body = input.readNBytes(MAXIMUM_REQUEST_SIZE + 1);
+        return body.length > MAXIMUM_REQUEST_SIZE ? null : body;
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split("&")) {
+                int separator = parameter.indexOf('=');
+                if (separator > 0) {
+                    parameters.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                            URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+}
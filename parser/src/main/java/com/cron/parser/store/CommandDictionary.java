@@ -0,0 +1,64 @@
+package com.cron.parser.store;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deduplicated commands of a {@link ScheduleStore}. Every distinct command is held once and referenced by an
+ * {@code int} code, and the codes of commands that are no longer referenced are reused.
+ */
+class CommandDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] commands = new String[INITIAL_CAPACITY];
+    private int[] references = new int[INITIAL_CAPACITY];
+    private int[] freeCodes = new int[16];
+    private int freeCount;
+    private int nextCode;
+
+    /**
+     * Returns the code of the command and counts one more reference to it.
+     */
+    int acquire(String command) {
+        Integer existing = codes.get(command);
+        if (existing != null) {
+            references[existing]++;
+            return existing;
+        }
+        int code = freeCount > 0 ? freeCodes[--freeCount] : nextCode++;
+        if (code == commands.length) {
+            commands = Arrays.copyOf(commands, code * 2);
+            references = Arrays.copyOf(references, code * 2);
+        }
+        commands[code] = command;
+        references[code] = 1;
+        codes.put(command, code);
+        return code;
+    }
+
+    /**
+     * Counts one reference less to the command of the code and drops the command when it is not referenced anymore.
+     */
+    void release(int code) {
+        if (--references[code] == 0) {
+            codes.remove(commands[code]);
+            commands[code] = null;
+            if (freeCount == freeCodes.length) {
+                freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+            }
+            freeCodes[freeCount++] = code;
+        }
+    }
+
+    String get(int code) {
+        return commands[code];
+    }
+
+    int size() {
+        return codes.size();
+    }
+
+}
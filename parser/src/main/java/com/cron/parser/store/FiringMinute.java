@@ -0,0 +1,58 @@
+package com.cron.parser.store;
+
+import com.cron.parser.EpochCalendar;
+import com.cron.parser.fields.FieldMask;
+
+import static com.cron.parser.EpochCalendar.*;
+
+/**
+ * Calendar fields of a minute since the epoch as single bit masks, resolved once and then matched against the field
+ * masks of many schedules, whichever column or record they are read from.
+ */
+final class FiringMinute {
+
+    private static final long FULL_DAY_OF_MONTH_BITS = FieldMask.rangeBits(1, 31);
+    private static final long FULL_DAY_OF_WEEK_BITS = FieldMask.rangeBits(0, DAYS_PER_WEEK - 1);
+
+    private final long minute;
+    private final long hour;
+    private final long dayOfMonth;
+    private final long month;
+    private final long dayOfWeek;
+
+    FiringMinute(long epochMinute) {
+        long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) (epochMinute - epochDay * MINUTES_PER_DAY);
+        int civil = civil(epochDay);
+        minute = 1L << (minuteOfDay % MINUTES_PER_HOUR);
+        hour = 1L << (minuteOfDay / MINUTES_PER_HOUR);
+        dayOfMonth = 1L << EpochCalendar.dayOfMonth(civil);
+        month = 1L << EpochCalendar.month(civil);
+        dayOfWeek = 1L << EpochCalendar.dayOfWeek(epochDay);
+    }
+
+    /**
+     * Tells if both day masks are restricted, in which case a day matches when either of them matches. Only the masks
+     * are known to the stores, so a field written as a full range counts as unrestricted.
+     */
+    static boolean isEitherDayMatching(long dayOfMonthBits, long dayOfWeekBits) {
+        return dayOfMonthBits != FULL_DAY_OF_MONTH_BITS && dayOfWeekBits != FULL_DAY_OF_WEEK_BITS;
+    }
+
+    /**
+     * Tells if the minute, hour and month masks match, which is tested first as the minute rules out most schedules.
+     */
+    boolean matchesTime(long minuteBits, long hourBits, long monthBits) {
+        return (minuteBits & minute) != 0L && (hourBits & hour) != 0L && (monthBits & month) != 0L;
+    }
+
+    /**
+     * Tells if the day masks match, combined with OR when either day matches and with AND otherwise.
+     */
+    boolean matchesDay(long dayOfMonthBits, long dayOfWeekBits, boolean eitherDayMatching) {
+        boolean dayOfMonthMatching = (dayOfMonthBits & dayOfMonth) != 0L;
+        boolean dayOfWeekMatching = (dayOfWeekBits & dayOfWeek) != 0L;
+        return eitherDayMatching ? dayOfMonthMatching || dayOfWeekMatching : dayOfMonthMatching && dayOfWeekMatching;
+    }
+
+}
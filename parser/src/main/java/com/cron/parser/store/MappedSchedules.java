@@ -0,0 +1,90 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CompiledCron;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+import static com.cron.parser.store.ScheduleFile.*;
+
+/**
+ * Read only view of a memory mapped {@link ScheduleFile}. Schedules are identified by their index in the file, and
+ * the firing ones are found by scanning the records in place, so millions of schedules are served without decoding
+ * them first.
+ */
+public class MappedSchedules {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String[] commands;
+
+    MappedSchedules(ByteBuffer buffer, int size, String[] commands) {
+        this.buffer = buffer;
+        this.size = size;
+        this.commands = commands;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct commands of the schedules.
+     */
+    public int commandCount() {
+        return commands.length;
+    }
+
+    /**
+     * Decodes the schedule of the given index.
+     *
+     * @throws UncheckedIOException if the record is corrupt
+     */
+    public CompiledCron get(int id) {
+        try {
+            return decode(buffer, offset(id), commands);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getCommand(int id) {
+        int command = buffer.getInt(offset(id) + COMMAND_OFFSET);
+        return command >= 0 && command < commands.length ? commands[command] : null;
+    }
+
+    /**
+     * Passes the index of every schedule that fires in the given minute since the epoch to the consumer, in
+     * ascending order.
+     */
+    public void forEachFiring(long epochMinute, IntConsumer consumer) {
+        FiringMinute firing = new FiringMinute(epochMinute);
+        for (int id = 0, offset = HEADER_SIZE; id < size; id++, offset += RECORD_SIZE) {
+            if (firing.matchesTime(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES), buffer.getLong(offset + 3 * Long.BYTES))
+                    && firing.matchesDay(buffer.getLong(offset + 2 * Long.BYTES), buffer.getLong(offset + 4 * Long.BYTES),
+                    (buffer.getInt(offset + FLAGS_OFFSET) & EITHER_DAY_MATCHING) != 0)) {
+                consumer.accept(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the schedules that fire in the given minute since the epoch.
+     */
+    public BitSet firing(long epochMinute) {
+        BitSet ids = new BitSet(size);
+        forEachFiring(epochMinute, ids::set);
+        return ids;
+    }
+
+    private int offset(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Schedule " + id + " is not within the " + size + " schedules");
+        }
+        return HEADER_SIZE + id * RECORD_SIZE;
+    }
+
+}
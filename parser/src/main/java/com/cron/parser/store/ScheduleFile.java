@@ -0,0 +1,277 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.fields.FieldMask;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned binary format of compiled schedules, so they are loaded without parsing any expression. All values are
+ * little endian:
+ * <pre>
+ * header   := magic:int32 version:int16 reserved:int16 scheduleCount:int32 commandCount:int32
+ *             commandsOffset:int64 reserved:int64
+ * schedule := minute:int64 hour:int64 dayOfMonth:int64 month:int64 dayOfWeek:int64 flags:int32 command:int32
+ * command  := length:int32 utf8:byte[length]
+ * </pre>
+ * The schedules are fixed size records that directly follow the header, so a {@link #map(Path) mapped} file is read
+ * in place. Each record refers to its command by index, and every distinct command is written once.
+ */
+public final class ScheduleFile {
+
+    public static final int MAGIC = 0x4E4F5243;
+    public static final short VERSION = 1;
+
+    /**
+     * Set in the flags when both day fields are restricted and a day matches when either of them matches.
+     */
+    public static final int EITHER_DAY_MATCHING = 1;
+
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 5 * Long.BYTES + 2 * Integer.BYTES;
+
+    static final int FLAGS_OFFSET = 5 * Long.BYTES;
+    static final int COMMAND_OFFSET = FLAGS_OFFSET + Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ScheduleFile() {
+    }
+
+    public static void write(Path file, Collection<CompiledCron> schedules) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, schedules);
+        }
+    }
+
+    public static void write(WritableByteChannel channel, Collection<CompiledCron> schedules) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> commands = new ArrayList<>();
+        for (CompiledCron compiled : schedules) {
+            if (codes.putIfAbsent(compiled.getCommand(), commands.size()) == null) {
+                commands.add(compiled.getCommand());
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putInt(schedules.size())
+                .putInt(commands.size())
+                .putLong(HEADER_SIZE + (long) schedules.size() * RECORD_SIZE)
+                .putLong(0L);
+
+        for (CompiledCron compiled : schedules) {
+            if (buffer.remaining() < RECORD_SIZE) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(compiled.getMinute().getBits())
+                    .putLong(compiled.getHour().getBits())
+                    .putLong(compiled.getDayOfMonth().getBits())
+                    .putLong(compiled.getMonth().getBits())
+                    .putLong(compiled.getDayOfWeek().getBits())
+                    .putInt(compiled.isEitherDayMatching() ? EITHER_DAY_MATCHING : 0)
+                    .putInt(codes.get(compiled.getCommand()));
+        }
+
+        for (String command : commands) {
+            byte[] bytes = command.getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < Integer.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putInt(bytes.length);
+            for (int offset = 0; offset < bytes.length; ) {
+                if (!buffer.hasRemaining()) {
+                    drain(channel, buffer);
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+        drain(channel, buffer);
+    }
+
+    /**
+     * Reads all schedules of the channel into the heap. The counts and lengths of the file are checked against the
+     * bytes left in a {@link SeekableByteChannel} before anything is allocated for them, and other channels are read
+     * in chunks, so a corrupt file fails with an exception instead of exhausting the heap.
+     */
+    public static List<CompiledCron> read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        fill(channel, header);
+        int scheduleCount = header.getInt(8);
+        int commandCount = header.getInt(12);
+        long commandsOffset = HEADER_SIZE + (long) scheduleCount * RECORD_SIZE;
+        checkHeader(header, commandsOffset);
+        checkRemaining(remaining(channel), commandsOffset - HEADER_SIZE + (long) commandCount * Integer.BYTES, "schedules");
+
+        ByteBuffer records = ByteBuffer.wrap(readBytes(channel, (int) (commandsOffset - HEADER_SIZE), "schedules"))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        List<String> commands = new ArrayList<>(Math.min(commandCount, BUFFER_SIZE));
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < commandCount; i++) {
+            fill(channel, length.clear());
+            byte[] bytes = readBytes(channel, checkLength(length.getInt(0)), "command " + i);
+            commands.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        String[] commandArray = commands.toArray(new String[0]);
+        List<CompiledCron> schedules = new ArrayList<>(scheduleCount);
+        for (int i = 0; i < scheduleCount; i++) {
+            schedules.add(decode(records, i * RECORD_SIZE, commandArray));
+        }
+        return schedules;
+    }
+
+    /**
+     * Maps the file read only. The schedules stay in the page cache and are only decoded when they are accessed.
+     */
+    public static MappedSchedules map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " is too large to be mapped");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new EOFException("File " + file + " is too short for a schedule file header");
+        }
+        int scheduleCount = buffer.getInt(8);
+        int commandCount = buffer.getInt(12);
+        long commandsOffset = HEADER_SIZE + (long) scheduleCount * RECORD_SIZE;
+        checkHeader(buffer, commandsOffset);
+        checkRemaining(buffer.capacity() - HEADER_SIZE, commandsOffset - HEADER_SIZE + (long) commandCount * Integer.BYTES,
+                "schedules of file " + file);
+
+        String[] commands = new String[commandCount];
+        int position = (int) commandsOffset;
+        for (int i = 0; i < commandCount; i++) {
+            int length = checkLength(buffer.getInt(position));
+            position += Integer.BYTES;
+            checkRemaining(buffer.capacity() - position, length + (long) (commandCount - i - 1) * Integer.BYTES,
+                    "command " + i + " of file " + file);
+            byte[] bytes = new byte[length];
+            buffer.duplicate().position(position).get(bytes);
+            commands[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += length;
+        }
+        return new MappedSchedules(buffer, scheduleCount, commands);
+    }
+
+    static CompiledCron decode(ByteBuffer records, int offset, String[] commands) throws IOException {
+        int command = records.getInt(offset + COMMAND_OFFSET);
+        if (command < 0 || command >= commands.length) {
+            throw new IOException("Command " + command + " of schedule " + offset / RECORD_SIZE + " is not in the file");
+        }
+        try {
+            return CompiledCron.of(
+                    FieldMask.valueOf(records.getLong(offset)),
+                    FieldMask.valueOf(records.getLong(offset + Long.BYTES)),
+                    FieldMask.valueOf(records.getLong(offset + 2 * Long.BYTES)),
+                    FieldMask.valueOf(records.getLong(offset + 3 * Long.BYTES)),
+                    FieldMask.valueOf(records.getLong(offset + 4 * Long.BYTES)),
+                    commands[command]
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Schedule " + offset / RECORD_SIZE + " is corrupt", e);
+        }
+    }
+
+    private static void checkHeader(ByteBuffer header, long commandsOffset) throws IOException {
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a schedule file");
+        }
+        if (header.getShort(4) != VERSION) {
+            throw new IOException("Unsupported schedule file version " + header.getShort(4));
+        }
+        if (header.getInt(8) < 0 || header.getInt(12) < 0 || header.getLong(16) != commandsOffset
+                || commandsOffset > Integer.MAX_VALUE) {
+            throw new IOException("Invalid schedule file header");
+        }
+    }
+
+    private static int checkLength(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Invalid command length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Fails unless the given number of bytes is left, which is compared as {@code long} so that no count or length
+     * read from the file overflows.
+     */
+    private static void checkRemaining(long remaining, long required, String content) throws EOFException {
+        if (required > remaining) {
+            throw new EOFException("Schedule file ends within the " + content + ", " + required + " bytes are required but "
+                    + remaining + " are left");
+        }
+    }
+
+    /**
+     * Returns the bytes left in the channel, or {@link Long#MAX_VALUE} if they are unknown.
+     */
+    private static long remaining(ReadableByteChannel channel) throws IOException {
+        if (channel instanceof SeekableByteChannel) {
+            SeekableByteChannel seekable = (SeekableByteChannel) channel;
+            return seekable.size() - seekable.position();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Reads the given number of bytes. Unless the channel tells the bytes left, they are read in chunks of growing
+     * size, so a corrupt length fails at the end of the file with at most twice the bytes read allocated.
+     */
+    private static byte[] readBytes(ReadableByteChannel channel, int length, String content) throws IOException {
+        checkRemaining(remaining(channel), length, content);
+        ByteBuffer bytes = ByteBuffer.allocate(Math.min(length, BUFFER_SIZE));
+        while (true) {
+            fill(channel, bytes);
+            if (bytes.capacity() == length) {
+                return bytes.array();
+            }
+            byte[] grown = Arrays.copyOf(bytes.array(), (int) Math.min(length, 2L * bytes.capacity()));
+            bytes = ByteBuffer.wrap(grown).position(bytes.capacity());
+        }
+    }
+
+    private static void fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Schedule file ends after " + buffer.position() + " of " + buffer.limit() + " bytes");
+            }
+        }
+    }
+
+    private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+}
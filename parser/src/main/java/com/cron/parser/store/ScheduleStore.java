@@ -0,0 +1,216 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.fields.FieldMask;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Column oriented store of compiled schedules for millions of jobs. The mask of every field is kept in a column of its
+ * own, a direct buffer with one {@code long} per job, so the schedules take 40 bytes plus a command code each outside
+ * of the heap and the garbage collector has nothing to trace. Commands are deduplicated in a dictionary. Jobs are
+ * identified by the id returned from {@link #add(CompiledCron)}, and the ids of removed jobs are reused.
+ * <p>
+ * The store is not thread safe and has to be synchronized externally when it is modified concurrently.
+ */
+public class ScheduleStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int REMOVED = -1;
+
+    private final CommandDictionary dictionary = new CommandDictionary();
+
+    private ByteBuffer minutes;
+    private ByteBuffer hours;
+    private ByteBuffer daysOfMonth;
+    private ByteBuffer months;
+    private ByteBuffer daysOfWeek;
+    private ByteBuffer commands;
+
+    private int capacity;
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId;
+    private int size;
+
+    public ScheduleStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ScheduleStore(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity " + initialCapacity + " is not positive");
+        }
+        capacity = initialCapacity;
+        minutes = column(Long.BYTES);
+        hours = column(Long.BYTES);
+        daysOfMonth = column(Long.BYTES);
+        months = column(Long.BYTES);
+        daysOfWeek = column(Long.BYTES);
+        commands = column(Integer.BYTES);
+    }
+
+    public int add(CompiledCron compiled) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        if (id == capacity) {
+            grow();
+        }
+        write(id, compiled);
+        size++;
+        return id;
+    }
+
+    /**
+     * Replaces the schedule of an existing job.
+     */
+    public void set(int id, CompiledCron compiled) {
+        checkId(id);
+        dictionary.release(commands.getInt(id * Integer.BYTES));
+        write(id, compiled);
+    }
+
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        dictionary.release(commands.getInt(id * Integer.BYTES));
+        commands.putInt(id * Integer.BYTES, REMOVED);
+        minutes.putLong(id * Long.BYTES, 0L);
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+        size--;
+        return true;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < nextId && commands.getInt(id * Integer.BYTES) != REMOVED;
+    }
+
+    /**
+     * Returns the schedule of the job, or {@code null} if there is none. The schedule is rebuilt from the columns, so
+     * the bulk operations should be preferred on hot paths.
+     */
+    public CompiledCron get(int id) {
+        if (!contains(id)) {
+            return null;
+        }
+        int offset = id * Long.BYTES;
+        return CompiledCron.of(
+                FieldMask.valueOf(minutes.getLong(offset)),
+                FieldMask.valueOf(hours.getLong(offset)),
+                FieldMask.valueOf(daysOfMonth.getLong(offset)),
+                FieldMask.valueOf(months.getLong(offset)),
+                FieldMask.valueOf(daysOfWeek.getLong(offset)),
+                getCommand(id)
+        );
+    }
+
+    public String getCommand(int id) {
+        checkId(id);
+        return dictionary.get(commands.getInt(id * Integer.BYTES));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct commands of the stored jobs.
+     */
+    public int commandCount() {
+        return dictionary.size();
+    }
+
+    /**
+     * Returns the bytes allocated outside of the heap for the columns.
+     */
+    public long offHeapBytes() {
+        return (long) capacity * (5 * Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Tells if the job fires in the given minute since the epoch.
+     */
+    public boolean matchesMinute(int id, long epochMinute) {
+        checkId(id);
+        return matches(id * Long.BYTES, new FiringMinute(epochMinute));
+    }
+
+    /**
+     * Passes the id of every job that fires in the given minute since the epoch to the consumer, in ascending order
+     * of ids. The calendar fields of the minute are resolved once, and every job is then tested with a few masks
+     * read sequentially from the columns, starting with the minute which rules out most of the jobs.
+     */
+    public void forEachFiring(long epochMinute, IntConsumer consumer) {
+        FiringMinute firing = new FiringMinute(epochMinute);
+        for (int id = 0, end = nextId; id < end; id++) {
+            if (matches(id * Long.BYTES, firing)) {
+                consumer.accept(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the jobs that fire in the given minute since the epoch.
+     */
+    public BitSet firing(long epochMinute) {
+        BitSet ids = new BitSet(nextId);
+        forEachFiring(epochMinute, ids::set);
+        return ids;
+    }
+
+    private boolean matches(int offset, FiringMinute firing) {
+        if (!firing.matchesTime(minutes.getLong(offset), hours.getLong(offset), months.getLong(offset))) {
+            return false;
+        }
+        long dayOfMonthBits = daysOfMonth.getLong(offset);
+        long dayOfWeekBits = daysOfWeek.getLong(offset);
+        return firing.matchesDay(dayOfMonthBits, dayOfWeekBits, FiringMinute.isEitherDayMatching(dayOfMonthBits, dayOfWeekBits));
+    }
+
+    private void write(int id, CompiledCron compiled) {
+        int offset = id * Long.BYTES;
+        minutes.putLong(offset, compiled.getMinute().getBits());
+        hours.putLong(offset, compiled.getHour().getBits());
+        daysOfMonth.putLong(offset, compiled.getDayOfMonth().getBits());
+        months.putLong(offset, compiled.getMonth().getBits());
+        daysOfWeek.putLong(offset, compiled.getDayOfWeek().getBits());
+        commands.putInt(id * Integer.BYTES, dictionary.acquire(compiled.getCommand()));
+    }
+
+    private void checkId(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("Job " + id + " is not stored");
+        }
+    }
+
+    private void grow() {
+        if (capacity > Integer.MAX_VALUE / Long.BYTES / 2) {
+            throw new IllegalStateException("Store cannot hold more than " + capacity + " jobs");
+        }
+        capacity *= 2;
+        minutes = copy(minutes, Long.BYTES);
+        hours = copy(hours, Long.BYTES);
+        daysOfMonth = copy(daysOfMonth, Long.BYTES);
+        months = copy(months, Long.BYTES);
+        daysOfWeek = copy(daysOfWeek, Long.BYTES);
+        commands = copy(commands, Integer.BYTES);
+    }
+
+    private ByteBuffer column(int width) {
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer copy(ByteBuffer column, int width) {
+        ByteBuffer copy = column(width);
+        copy.put(column.clear());
+        return copy.clear();
+    }
+
+}
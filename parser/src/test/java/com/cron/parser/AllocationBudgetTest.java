@@ -0,0 +1,112 @@
+package com.cron.parser;
+
+import com.cron.parser.events.CronParserEvent;
+import com.cron.parser.events.ExecutionEvent;
+import com.cron.parser.events.ExpressionParseEvent;
+import com.cron.parser.expressions.Expression;
+import com.cron.parser.expressions.ExpressionFactory;
+import com.cron.parser.expressions.ExpressionParser;
+import com.cron.parser.fields.Field;
+import com.cron.parser.fields.MinuteField;
+import jdk.jfr.Recording;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails when a change makes the hot paths allocate more than they do today, e.g. by bringing back boxed streams or
+ * hash sets. Match and execution lookups must not allocate at all, the budgets of the parsing paths are their current
+ * allocation with a little head room.
+ */
+public class AllocationBudgetTest {
+
+    private static final int ITERATIONS = 10_000;
+
+    private static final long EPOCH_MINUTE = 27_000_000L;
+
+    private final Field field = new MinuteField();
+    private final Expression expression = ExpressionFactory.build();
+    private final ExpressionParser expressionParser = new ExpressionParser();
+    private final CronParser cronParser = new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+
+    @Before
+    public void setUp() {
+        assumeTrue("Thread allocation counters are not supported", AllocationMeter.isSupported());
+    }
+
+    @Test
+    public void testExpressionParse() {
+        assertBudget(768, () -> expression.parse("1-5,*/20", field));
+    }
+
+    @Test
+    public void testExpressionParser() {
+        assertBudget(96, () -> expressionParser.parse("1-5,*/20", field));
+        assertBudget(64, () -> expressionParser.parseBits("1-5,*/20", field));
+    }
+
+    @Test
+    public void testConstruction() {
+        assertBudget(448, () -> new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find"));
+        assertBudget(896, () -> CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find"));
+    }
+
+    @Test
+    public void testStats() {
+        assertBudget(704, cronParser::getStats);
+    }
+
+    @Test
+    public void testMatchesWithoutAllocation() {
+        LocalDateTime dateTime = LocalDateTime.of(2021, 5, 3, 0, 15);
+        long[] epochMinutes = new long[64];
+        boolean[] results = new boolean[epochMinutes.length];
+        for (int i = 0; i < epochMinutes.length; i++) {
+            epochMinutes[i] = EPOCH_MINUTE + i * 15L;
+        }
+
+        assertBudget(0, () -> cronParser.matches(EPOCH_MINUTE * EpochCalendar.MILLIS_PER_MINUTE));
+        assertBudget(0, () -> cronParser.matches(dateTime));
+        assertBudget(0, () -> cronParser.matchesMinute(EPOCH_MINUTE));
+        assertBudget(0, () -> cronParser.matchesMinutes(epochMinutes, results));
+    }
+
+    @Test
+    public void testExecutionsWithoutAllocation() {
+        assertBudget(0, () -> cronParser.nextExecution(EPOCH_MINUTE));
+        assertBudget(0, () -> cronParser.previousExecution(EPOCH_MINUTE));
+    }
+
+    @Test
+    public void testWithoutAllocationAfterRecording() {
+        try (Recording recording = new Recording()) {
+            recording.enable(CronParserEvent.NAME);
+            recording.enable(ExpressionParseEvent.NAME);
+            recording.enable(ExecutionEvent.NAME);
+            recording.start();
+            new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find").nextExecution(EPOCH_MINUTE);
+            recording.stop();
+        }
+
+        assertBudget(0, () -> cronParser.matchesMinute(EPOCH_MINUTE));
+        assertBudget(0, () -> cronParser.nextExecution(EPOCH_MINUTE));
+        assertBudget(0, () -> cronParser.previousExecution(EPOCH_MINUTE));
+        assertBudget(64, () -> expressionParser.parseBits("1-5,*/20", field));
+        assertBudget(448, () -> new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find"));
+    }
+
+    /**
+     * Compares the bytes of all of the runs of a round rather than the bytes per run, which would round down and let
+     * a zero budget pass with almost a byte per run.
+     */
+    private static void assertBudget(long budget, Runnable block) {
+        long bytes = AllocationMeter.bytes(block, ITERATIONS);
+        assertTrue("Allocated " + bytes + " bytes in " + ITERATIONS + " runs over the budget of " + budget + " per run",
+                bytes <= budget * ITERATIONS);
+    }
+
+}
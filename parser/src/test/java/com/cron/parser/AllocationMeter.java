@@ -0,0 +1,59 @@
+package com.cron.parser;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by a block of code on the current thread with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. The block is run until the JIT compiled it,
+ * so escape analysis has removed the allocations it can, and then measured over several rounds of which the lowest
+ * allocation is kept, which filters out one time allocations like class initialization and deoptimization.
+ */
+public final class AllocationMeter {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the bytes allocated by the given number of runs of the block in the round that allocated the least.
+     */
+    public static long bytes(Runnable block, int iterations) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            block.run();
+        }
+        long thread = Thread.currentThread().getId();
+        long overhead = overhead(thread);
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = THREADS.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < iterations; i++) {
+                block.run();
+            }
+            long bytes = THREADS.getThreadAllocatedBytes(thread) - start - overhead;
+            lowest = Math.min(lowest, Math.max(0L, bytes));
+        }
+        return lowest;
+    }
+
+    /**
+     * Returns the bytes allocated by reading the counter itself.
+     */
+    private static long overhead(long thread) {
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = THREADS.getThreadAllocatedBytes(thread);
+            lowest = Math.min(lowest, THREADS.getThreadAllocatedBytes(thread) - start);
+        }
+        return lowest;
+    }
+
+}
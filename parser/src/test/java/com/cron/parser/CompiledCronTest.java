@@ -0,0 +1,194 @@
+package com.cron.parser;
+
+import com.cron.parser.fields.FieldMask;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static com.cron.parser.workload.ScheduleFixtures.randomMask;
+import static com.cron.parser.workload.ScheduleFixtures.randomSchedule;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledCronTest {
+
+    @Test
+    public void testEqualSchedules() {
+        CompiledCron first = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+        CompiledCron second = CompiledCron.compile("0,15,30,45", "0", "15,1", "1-12", "1,2,3,4,5", "/usr/bin/find");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, new CronParser("0-45/15", "0-0", "1-15/14", "*/1", "1-5/1", "/usr/bin/find").getCompiled());
+    }
+
+    @Test
+    public void testSharedInstance() {
+        CompiledCron first = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find").intern();
+        CompiledCron second = CompiledCron.compile("0,15,30,45", "0", "15,1", "1-12", "1,2,3,4,5", "/usr/bin/find");
+
+        assertNotSame(first, second);
+        assertSame(first, second.intern());
+    }
+
+    @Test
+    public void testCommandIsPartOfIdentity() {
+        CompiledCron first = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+        CompiledCron second = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/true");
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void testToExpression() {
+        CompiledCron compiled = CompiledCron.compile("0,15,30,45", "0", "1,15", "1-12", "1,2,3,4,5", "/usr/bin/find");
+
+        assertEquals("*/15 0 1,15 * 1-5 /usr/bin/find", compiled.toExpression());
+    }
+
+    @Test
+    public void testToExpressionRoundTrip() {
+        Random random = new Random(17);
+        for (int i = 0; i < 10_000; i++) {
+            CompiledCron compiled = randomSchedule(random, "/usr/bin/find");
+
+            assertEquals(compiled, CronParser.parse(compiled.toExpression()).getCompiled());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyMask() {
+        CompiledCron.of(FieldMask.empty(), FieldMask.of(0), FieldMask.of(1), FieldMask.of(1), FieldMask.of(0), "/usr/bin/find");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaskOutOfField() {
+        CompiledCron.of(FieldMask.of(0), FieldMask.of(24), FieldMask.of(1), FieldMask.of(1), FieldMask.of(0), "/usr/bin/find");
+    }
+
+    @Test
+    public void testMatches() {
+        CompiledCron compiled = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+
+        assertTrue(compiled.matches(LocalDateTime.of(2020, 1, 1, 0, 15)));
+        assertTrue(compiled.matches(LocalDateTime.of(2020, 1, 1, 0, 15, 59)));
+        assertTrue(compiled.matches(LocalDateTime.of(2020, 2, 15, 0, 30)));
+        assertFalse(compiled.matches(LocalDateTime.of(2020, 2, 16, 0, 30)));
+        assertFalse(compiled.matches(LocalDateTime.of(2020, 1, 1, 0, 16)));
+        assertTrue(compiled.matches(LocalDateTime.of(2020, 1, 1, 0, 15).toInstant(ZoneOffset.UTC).toEpochMilli() + 59_999));
+        assertFalse(compiled.matches(LocalDateTime.of(2020, 1, 1, 0, 15).toInstant(ZoneOffset.UTC).toEpochMilli() - 1));
+    }
+
+    @Test
+    public void testMatchesAgreesWithNextExecution() {
+        Random random = new Random(19);
+        for (int i = 0; i < 2_000; i++) {
+            CompiledCron compiled = randomSchedule(random, "/usr/bin/find");
+            long start = random.nextInt(100_000_000) - 50_000_000;
+            for (long epochMinute = start; epochMinute < start + 500; epochMinute++) {
+                boolean expected = compiled.nextExecution(epochMinute - 1) == epochMinute;
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+
+                assertEquals(expected, compiled.matchesMinute(epochMinute));
+                assertEquals(expected, compiled.matches(epochMinute * 60_000));
+                assertEquals(expected, compiled.matches(dateTime));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesMinutes() {
+        Random random = new Random(23);
+        for (int i = 0; i < 500; i++) {
+            CompiledCron compiled = CompiledCron.of(
+                    randomMask(random, 0, 59),
+                    randomMask(random, 0, 23),
+                    FieldMask.range(1, 31),
+                    randomMask(random, 1, 12),
+                    randomMask(random, 0, 6),
+                    "/usr/bin/find");
+            long[] epochMinutes = new long[5_000];
+            long epochMinute = random.nextInt(100_000_000) - 50_000_000;
+            for (int j = 0; j < epochMinutes.length; j++) {
+                epochMinute += random.nextInt(10) == 0 ? random.nextInt(100_000) - 50_000 : 1 + random.nextInt(3);
+                epochMinutes[j] = epochMinute;
+            }
+
+            boolean[] results = new boolean[epochMinutes.length];
+            compiled.matchesMinutes(epochMinutes, results);
+            BitSet matches = compiled.matchesMinutes(epochMinutes);
+
+            for (int j = 0; j < epochMinutes.length; j++) {
+                assertEquals(compiled.matchesMinute(epochMinutes[j]), results[j]);
+                assertEquals(results[j], matches.get(j));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesMinutesNever() {
+        CompiledCron compiled = CompiledCron.compile("0", "0", "30", "2", "*", "/usr/bin/find");
+        boolean[] results = {true, true};
+        compiled.matchesMinutes(new long[]{0L, 1L}, results);
+
+        assertFalse(results[0]);
+        assertFalse(results[1]);
+    }
+
+    @Test
+    public void testExecutions() {
+        CompiledCron compiled = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+        long from = LocalDateTime.of(2020, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) / 60;
+        long to = LocalDateTime.of(2021, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) / 60;
+
+        List<Long> expected = new ArrayList<>();
+        for (long execution = compiled.nextExecution(from - 1); execution < to; execution = compiled.nextExecution(execution)) {
+            expected.add(execution);
+        }
+
+        assertEquals(expected, compiled.executions(from, to).boxed().collect(Collectors.toList()));
+        assertEquals(expected, compiled.executions(from, to).parallel().boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testExecutionsBetweenInstants() {
+        CompiledCron compiled = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+        Instant from = LocalDateTime.of(2020, 1, 1, 0, 0, 1).toInstant(ZoneOffset.UTC);
+        Instant to = LocalDateTime.of(2020, 1, 2, 0, 30).toInstant(ZoneOffset.UTC);
+
+        List<Instant> expected = List.of(
+                LocalDateTime.of(2020, 1, 1, 0, 15).toInstant(ZoneOffset.UTC),
+                LocalDateTime.of(2020, 1, 1, 0, 30).toInstant(ZoneOffset.UTC),
+                LocalDateTime.of(2020, 1, 1, 0, 45).toInstant(ZoneOffset.UTC),
+                LocalDateTime.of(2020, 1, 2, 0, 0).toInstant(ZoneOffset.UTC),
+                LocalDateTime.of(2020, 1, 2, 0, 15).toInstant(ZoneOffset.UTC));
+
+        assertEquals(expected, compiled.executions(from, to).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testExecutionsSplit() {
+        CompiledCron compiled = CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find");
+        Spliterator.OfLong spliterator = compiled.executions(0L, 525_600L).spliterator();
+        Spliterator.OfLong prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(4_380, prefix.estimateSize());
+        assertEquals(8_760, StreamSupport.longStream(prefix, false).count() + StreamSupport.longStream(spliterator, false).count());
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.cron.parser;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CronParserTest {
+
+    private CronParser cronParser;
+
+    @Before
+    public void setUp() {
+        cronParser = new CronParser("*/15","0","1,15", "*", "1-5", "/usr/bin/find");
+    }
+
+    @Test
+    public void testStats() throws IOException {
+        String expected = Files.readString(Paths.get("./src/test/resources/cron_parser.txt"));
+        String result = cronParser.getStats();
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testSplitMatchesRegularExpression() {
+        String alphabet = "a1* \t\n\u000B\f\r\u00A0\u001C";
+        Random random = new Random(17);
+        for (String input : new String[]{"", " ", "  a", "a  ", " a b ", "*/15 0 1,15 * 1-5 /usr/bin/find"}) {
+            assertEquals(input, Arrays.asList(input.split("\\s+")), Arrays.asList(CronParser.split(input)));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder input = new StringBuilder();
+            for (int length = random.nextInt(12); length > 0; length--) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String expression = input.toString();
+            assertEquals(expression, Arrays.asList(expression.split("\\s+")), Arrays.asList(CronParser.split(expression)));
+        }
+    }
+
+    @Test
+    public void testNextExecutionSameHour() {
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2020, 1, 1, 0, 15));
+        Optional<LocalDateTime> result = cronParser.nextExecution(LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNextExecutionIgnoresSeconds() {
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2020, 1, 1, 0, 30));
+        Optional<LocalDateTime> result = cronParser.nextExecution(LocalDateTime.of(2020, 1, 1, 0, 15, 59));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNextExecutionCarriesIntoWeekday() {
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2020, 1, 6, 0, 0));
+        Optional<LocalDateTime> result = cronParser.nextExecution(LocalDateTime.of(2020, 1, 3, 0, 45));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNextExecutionDayOfMonthOrDayOfWeek() {
+        CronParser parser = new CronParser("0", "12", "15", "*", "0", "/usr/bin/find");
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2020, 2, 2, 12, 0));
+        Optional<LocalDateTime> result = parser.nextExecution(LocalDateTime.of(2020, 1, 26, 12, 0));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNextExecutionCarriesIntoYear() {
+        CronParser parser = new CronParser("0", "0", "1", "1", "*", "/usr/bin/find");
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2021, 1, 1, 0, 0));
+        Optional<LocalDateTime> result = parser.nextExecution(LocalDateTime.of(2020, 12, 31, 23, 59));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNextExecutionLeapDay() {
+        CronParser parser = new CronParser("0", "0", "29", "2", "*", "/usr/bin/find");
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2104, 2, 29, 0, 0));
+        Optional<LocalDateTime> result = parser.nextExecution(LocalDateTime.of(2096, 2, 29, 0, 0));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNextExecutionNever() {
+        CronParser parser = new CronParser("0", "0", "30", "2", "*", "/usr/bin/find");
+
+        assertEquals(Optional.empty(), parser.nextExecution(LocalDateTime.of(2020, 1, 1, 0, 0)));
+        assertEquals(CronParser.NO_EXECUTION, parser.nextExecution(0L));
+    }
+
+    @Test
+    public void testNextExecutionMatchesCalendarScan() {
+        Random random = new Random(11);
+        for (int i = 0; i < 2_000; i++) {
+            CronParser parser = new CronParser(
+                    randomField(random, 0, 59),
+                    randomField(random, 0, 23),
+                    randomField(random, 1, 31),
+                    randomField(random, 1, 12),
+                    randomField(random, 0, 6),
+                    "/usr/bin/find");
+            LocalDateTime start = LocalDateTime.of(1960 + random.nextInt(100), 1, 1, 0, 0)
+                    .plusMinutes(random.nextInt(525_600));
+
+            assertEquals(scanNextExecution(parser, start), parser.nextExecution(start));
+        }
+    }
+
+    @Test
+    public void testPreviousExecutionSameHour() {
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2020, 1, 1, 0, 15));
+        Optional<LocalDateTime> result = cronParser.previousExecution(LocalDateTime.of(2020, 1, 1, 0, 30));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testPreviousExecutionBorrowsFromWeekday() {
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2020, 1, 3, 0, 45));
+        Optional<LocalDateTime> result = cronParser.previousExecution(LocalDateTime.of(2020, 1, 6, 0, 0));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testPreviousExecutionBorrowsFromYear() {
+        CronParser parser = new CronParser("59", "23", "31", "12", "*", "/usr/bin/find");
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2019, 12, 31, 23, 59));
+        Optional<LocalDateTime> result = parser.previousExecution(LocalDateTime.of(2020, 12, 31, 23, 59));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testPreviousExecutionLeapDay() {
+        CronParser parser = new CronParser("0", "0", "29", "2", "*", "/usr/bin/find");
+        Optional<LocalDateTime> expected = Optional.of(LocalDateTime.of(2096, 2, 29, 0, 0));
+        Optional<LocalDateTime> result = parser.previousExecution(LocalDateTime.of(2104, 2, 29, 0, 0));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testPreviousExecutionNever() {
+        CronParser parser = new CronParser("0", "0", "31", "4", "*", "/usr/bin/find");
+
+        assertEquals(Optional.empty(), parser.previousExecution(LocalDateTime.of(2020, 1, 1, 0, 0)));
+        assertFalse(parser.reverseExecutions(0L).hasNext());
+    }
+
+    @Test
+    public void testReverseExecutions() {
+        Iterator<LocalDateTime> executions = cronParser.reverseExecutions(LocalDateTime.of(2020, 1, 6, 0, 15));
+
+        assertEquals(LocalDateTime.of(2020, 1, 6, 0, 0), executions.next());
+        assertEquals(LocalDateTime.of(2020, 1, 3, 0, 45), executions.next());
+        assertEquals(LocalDateTime.of(2020, 1, 3, 0, 30), executions.next());
+        assertTrue(executions.hasNext());
+    }
+
+    @Test
+    public void testPreviousExecutionInvertsNextExecution() {
+        Random random = new Random(13);
+        for (int i = 0; i < 20_000; i++) {
+            CronParser parser = new CronParser(
+                    randomField(random, 0, 59),
+                    randomField(random, 0, 23),
+                    randomField(random, 1, 31),
+                    randomField(random, 1, 12),
+                    randomField(random, 0, 6),
+                    "/usr/bin/find");
+            long epochMinute = random.nextInt(100_000_000) - 50_000_000;
+            long previous = parser.previousExecution(epochMinute);
+
+            if (previous == CronParser.NO_EXECUTION) {
+                assertEquals(CronParser.NO_EXECUTION, parser.nextExecution(epochMinute - 10_000_000));
+            } else {
+                assertTrue(previous < epochMinute);
+                assertEquals(previous, parser.nextExecution(previous - 1));
+                assertTrue(parser.nextExecution(previous) >= epochMinute);
+            }
+        }
+    }
+
+    static String randomField(Random random, int min, int max) {
+        int first = min + random.nextInt(max - min + 1);
+        int second = min + random.nextInt(max - min + 1);
+        switch (random.nextInt(5)) {
+            case 0:
+                return "*";
+            case 1:
+                return String.valueOf(first);
+            case 2:
+                return Math.min(first, second) + "-" + Math.max(first, second);
+            case 3:
+                return first + "," + second;
+            default:
+                return "*/" + (1 + random.nextInt(max - min + 1));
+        }
+    }
+
+    /**
+     * Reference implementation that walks the calendar day by day and minute by minute over the rendered stats.
+     */
+    static Optional<LocalDateTime> scanNextExecution(CronParser parser, LocalDateTime after) {
+        String[] stats = parser.getStats().split("\n");
+        boolean[][] values = new boolean[5][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new boolean[64];
+            for (String token : stats[i].substring(14).split(" ")) {
+                values[i][Integer.parseInt(token)] = true;
+            }
+        }
+        boolean restricted = count(values[2]) != 31 && count(values[4]) != 7;
+
+        LocalDateTime start = after.withSecond(0).withNano(0).plusMinutes(1);
+        for (LocalDate date = start.toLocalDate(); date.getYear() <= start.getYear() + 8; date = date.plusDays(1)) {
+            boolean dayOfMonth = values[2][date.getDayOfMonth()];
+            boolean dayOfWeek = values[4][date.getDayOfWeek().getValue() % 7];
+            boolean day = restricted ? dayOfMonth || dayOfWeek : dayOfMonth && dayOfWeek;
+            if (!day || !values[3][date.getMonthValue()]) {
+                continue;
+            }
+            LocalDateTime dateTime = date.equals(start.toLocalDate()) ? start : date.atStartOfDay();
+            for (; dateTime.toLocalDate().equals(date); dateTime = dateTime.plusMinutes(1)) {
+                if (values[0][dateTime.getMinute()] && values[1][dateTime.getHour()]) {
+                    return Optional.of(dateTime);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int count(boolean[] values) {
+        int count = 0;
+        for (boolean value : values) {
+            count += value ? 1 : 0;
+        }
+        return count;
+    }
+
+}
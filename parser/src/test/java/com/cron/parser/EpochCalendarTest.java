@@ -0,0 +1,34 @@
+package com.cron.parser;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+
+public class EpochCalendarTest {
+
+    @Test
+    public void testCivilMatchesLocalDate() {
+        for (long epochDay = -800_000; epochDay <= 800_000; epochDay += 37) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int civil = EpochCalendar.civil(epochDay);
+
+            assertEquals(date.getYear(), EpochCalendar.year(civil));
+            assertEquals(date.getMonthValue(), EpochCalendar.month(civil));
+            assertEquals(date.getDayOfMonth(), EpochCalendar.dayOfMonth(civil));
+            assertEquals(epochDay, EpochCalendar.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            assertEquals(date.getDayOfWeek().getValue() % 7, EpochCalendar.dayOfWeek(epochDay));
+        }
+    }
+
+    @Test
+    public void testLengthOfMonth() {
+        for (int year = 1896; year <= 2104; year++) {
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(LocalDate.of(year, month, 1).lengthOfMonth(), EpochCalendar.lengthOfMonth(year, month));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.cron.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the time from launching the one-shot command line until its first byte of output, with the default class
+ * data sharing of the JDK and with the application archive built by the {@code cds} profile. The arguments are the
+ * fat jar, the archive and the number of launches.
+ */
+public class StartupBenchmark {
+
+    private static final String EXPRESSION = "*/15 0 1,15 * 1-5 /usr/bin/find";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path jar = Paths.get(args.length > 0 ? args[0] : "parser/target/CronExpressionParser-1.0-SNAPSHOT-jar-with-dependencies.jar");
+        Path archive = Paths.get(args.length > 1 ? args[1] : "parser/target/CronExpressionParser-1.0-SNAPSHOT-jar-with-dependencies.jsa");
+        int launches = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        run("default", launches, "-jar", jar.toString(), EXPRESSION);
+        if (Files.exists(archive)) {
+            run("application archive", launches, "-XX:SharedArchiveFile=" + archive, "-jar", jar.toString(), EXPRESSION);
+        } else {
+            System.out.println("No archive at " + archive + ", build it with mvn package -Pcds");
+        }
+    }
+
+    private static void run(String name, int launches, String... arguments) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(arguments));
+
+        long[] times = new long[launches];
+        for (int i = 0; i < launches; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (InputStream output = process.getInputStream()) {
+                if (output.read() < 0) {
+                    throw new IllegalStateException("No output from " + command);
+                }
+                times[i] = System.nanoTime() - start;
+                output.transferTo(OutputStream.nullOutputStream());
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Command failed: " + command);
+            }
+        }
+        Arrays.sort(times);
+        System.out.printf("%s: median %.1f ms, min %.1f ms to first output over %d launches%n",
+                name, times[launches / 2] / 1e6, times[0] / 1e6, launches);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.cron.parser.bulk;
+
+import com.cron.parser.CronParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class BulkParserTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testParse() throws IOException {
+        Path file = write("*/15 0 1,15 * 1-5 /usr/bin/find\n");
+
+        StringWriter output = new StringWriter();
+        assertEquals(0, new BulkParser().parse(file, output));
+        assertEquals(CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find").getStats() + "\n", output.toString());
+    }
+
+    @Test
+    public void testReportsInvalidLines() throws IOException {
+        Path file = write("# comment\r\n\r\n0 0 * * * /bin/a\r\n61 0 * * * /bin/b\r\n0 0 * *\r\n0 0 1 1 1 /bin/c");
+
+        StringWriter output = new StringWriter();
+        assertEquals(2, new BulkParser(ForkJoinPool.commonPool(), 1).parse(file, output));
+        assertEquals(
+                CronParser.parse("0 0 * * * /bin/a").getStats() + "\n" +
+                "line 4: Value 61 is above the upper limit for Field{min=0, max=59}\n" +
+                "line 5: Invalid number of cron fields in 0 0 * *\n" +
+                CronParser.parse("0 0 1 1 1 /bin/c").getStats() + "\n",
+                output.toString());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        StringWriter output = new StringWriter();
+        assertEquals(0, new BulkParser().parse(write(""), output));
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    public void testOutputOrderMatchesSequentialParsing() throws IOException {
+        Random random = new Random(14);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        long expectedErrors = 0;
+        for (int line = 1; line <= 5_000; line++) {
+            String expression = random.nextInt(10) == 0
+                    ? "0 " + (24 + random.nextInt(10)) + " * * * /bin/invalid"
+                    : "*/" + (1 + random.nextInt(59)) + " " + random.nextInt(24) + " * * " + random.nextInt(7) + " /bin/job" + line;
+            input.append(expression).append('\n');
+            try {
+                expected.append(CronParser.parse(expression).getStats()).append('\n');
+            } catch (RuntimeException e) {
+                expected.append("line ").append(line).append(": ").append(e.getMessage()).append('\n');
+                expectedErrors++;
+            }
+        }
+        Path file = write(input.toString());
+
+        for (int chunkSize : new int[]{1, 100, 4096, BulkParser.DEFAULT_CHUNK_SIZE}) {
+            StringWriter output = new StringWriter();
+            assertEquals(expectedErrors, new BulkParser(new ForkJoinPool(4), chunkSize).parse(file, output));
+            assertEquals(expected.toString(), output.toString());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        new BulkParser(ForkJoinPool.commonPool(), 0);
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+}
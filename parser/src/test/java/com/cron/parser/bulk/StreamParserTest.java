@@ -0,0 +1,136 @@
+package com.cron.parser.bulk;
+
+import com.cron.parser.CronParser;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StreamParserTest {
+
+    @Test
+    public void testStats() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long errors = parse(StreamParser.Format.STATS, "# jobs\n\n*/15 0 1,15 * 1-5 /usr/bin/find\r\n0 24 * * * /bin/a\n0 0 * * 0 /bin/b", output);
+
+        assertEquals(1, errors);
+        assertEquals(
+                CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find").getStats() + "\n" +
+                "line 4: Value 24 is above the upper limit for Field{min=0, max=23}\n" +
+                CronParser.parse("0 0 * * 0 /bin/b").getStats() + "\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long errors = parse(StreamParser.Format.COMPACT, "0,15,30,45 0 1-31 * 1,2,3,4,5 /usr/bin/find\n1 2 3\n", output);
+
+        assertEquals(1, errors);
+        assertEquals("*/15 0 * * 1-5 /usr/bin/find\nline 2: Invalid number of cron fields in 1 2 3\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLongLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String command = "/bin/" + "a".repeat(StreamParser.MAXIMUM_LINE_LENGTH);
+        long errors = parse(StreamParser.Format.COMPACT, "0 0 * * * " + command + "\n0 0 * * * /bin/b\n", output);
+
+        assertEquals(1, errors);
+        assertEquals("line 1: Line is longer than " + StreamParser.MAXIMUM_LINE_LENGTH + " bytes\n0 0 * * * /bin/b\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMatchesBulkParser() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int line = 0; line < 1_000; line++) {
+            input.append(line % 60).append(' ').append(line % 30).append(" * * * /bin/job").append(line).append('\n');
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long errors = parse(StreamParser.Format.STATS, input.toString(), output);
+
+        Path file = Files.createTempFile("crontab", ".txt");
+        try {
+            Files.writeString(file, input);
+            StringWriter expected = new StringWriter();
+            assertEquals(new BulkParser().parse(file, expected), errors);
+            assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testStreamsLargeInput() throws IOException {
+        byte[] line = "*/5 * * * 1-5 /usr/bin/find\n".getBytes(StandardCharsets.UTF_8);
+        long lines = 200_000;
+        ReadableByteChannel input = new ReadableByteChannel() {
+            private long position;
+
+            @Override
+            public int read(ByteBuffer buffer) {
+                if (position == lines * line.length) {
+                    return -1;
+                }
+                int read = 0;
+                while (buffer.hasRemaining() && position < lines * line.length) {
+                    buffer.put(line[(int) (position++ % line.length)]);
+                    read++;
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        long[] written = new long[1];
+        WritableByteChannel output = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer buffer) {
+                int remaining = buffer.remaining();
+                buffer.position(buffer.limit());
+                written[0] += remaining;
+                return remaining;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertEquals(0, new StreamParser(StreamParser.Format.COMPACT).parse(input, output));
+        assertEquals(lines * "*/5 * * * 1-5 /usr/bin/find\n".length(), written[0]);
+        assertTrue(written[0] > 2 * StreamParser.MAXIMUM_LINE_LENGTH);
+    }
+
+    private static long parse(StreamParser.Format format, String input, ByteArrayOutputStream output) throws IOException {
+        return new StreamParser(format).parse(
+                Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(output));
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.cron.parser.cache;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.CronParser;
+import com.cron.parser.expressions.ExpressionParserException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CronParserCacheTest {
+
+    private CronParserCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new CronParserCache(32);
+    }
+
+    @Test
+    public void testNormalize() {
+        assertEquals("*/15 0 1,15 * 1-5 /usr/bin/find", CronParserCache.normalize("*/15 0 1,15 * 1-5 /usr/bin/find"));
+        assertEquals("*/15 0 1,15 * 1-5 /usr/bin/find", CronParserCache.normalize(" */15  0\t1,15 * 1-5 /usr/bin/find\n"));
+    }
+
+    @Test
+    public void testSharedInstance() {
+        CronParser first = cache.get("*/15 0 1,15 * 1-5 /usr/bin/find");
+        CronParser second = cache.get("*/15  0 1,15 * 1-5 /usr/bin/find ");
+
+        assertSame(first.getCompiled(), second.getCompiled());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0.5, cache.getHitRatio(), 0.0);
+    }
+
+    @Test
+    public void testSameScheduleWithDifferentCommands() {
+        CronParser find = cache.get("*/15 0 1,15 * 1-5 /usr/bin/find");
+        CronParser touch = cache.get("*/15 0 1,15 * 1-5 /usr/bin/touch");
+
+        assertEquals("/usr/bin/find", find.getCompiled().getCommand());
+        assertEquals("/usr/bin/touch", touch.getCompiled().getCommand());
+        assertEquals(find.getCompiled().toExpression().replace("find", "touch"), touch.getCompiled().toExpression());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testScheduleWithoutCommand() {
+        try {
+            cache.get("0 * * * *");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Invalid number of cron fields in 0 * * * *", e.getMessage());
+        }
+        assertEquals(0, cache.size());
+        assertEquals(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find"), cache.get("0 * * * * /usr/bin/find").getCompiled());
+    }
+
+    @Test
+    public void testBoundedSize() {
+        for (int minute = 0; minute < 60; minute++) {
+            cache.get(minute + " 0 * * * /usr/bin/find");
+        }
+
+        assertTrue(cache.size() <= 32);
+        assertEquals(60, cache.size() + cache.getEvictionCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        CronParser recent = cache.get("0 0 * * * /usr/bin/find");
+        CronParser eldest = cache.get("0 1 * * * /usr/bin/find");
+        for (int minute = 1; minute < 60; minute++) {
+            cache.get(minute + " 0 * * * /usr/bin/find");
+            cache.get("0 0 * * * /usr/bin/find");
+        }
+
+        long misses = cache.getMissCount();
+        assertEquals(recent.getCompiled(), cache.get("0 0 * * * /usr/bin/find").getCompiled());
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(eldest.getCompiled(), cache.get("0 1 * * * /usr/bin/find").getCompiled());
+        assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test(expected = ExpressionParserException.class)
+    public void testInvalidExpressionIsNotCached() {
+        try {
+            cache.get("60 0 * * * /usr/bin/find");
+        } finally {
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewFields() {
+        cache.get("0 0 * *");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyFields() {
+        cache.get("0 0 * * * /usr/bin/find /tmp");
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CronParser>> futures = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                futures.add(executor.submit(() -> cache.get("*/5 * * * * /usr/bin/find")));
+            }
+            CronParser expected = cache.get("*/5 * * * * /usr/bin/find");
+            for (Future<CronParser> future : futures) {
+                assertSame(expected.getCompiled(), future.get().getCompiled());
+            }
+            assertEquals(1, cache.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
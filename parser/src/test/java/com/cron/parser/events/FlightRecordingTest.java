@@ -0,0 +1,153 @@
+package com.cron.parser.events;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.CronParser;
+import com.cron.parser.expressions.ExpressionFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlightRecordingTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Recording recording;
+
+    @Before
+    public void setUp() {
+        recording = new Recording();
+        recording.enable(ExpressionParseEvent.NAME).withoutThreshold();
+        recording.enable(CronParserEvent.NAME).withoutThreshold();
+        recording.enable(ExecutionEvent.NAME).withoutThreshold();
+        recording.start();
+    }
+
+    @After
+    public void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    public void testEnabledWhileRecording() {
+        assertTrue(FlightRecording.isCronParserEnabled());
+        assertTrue(FlightRecording.isExpressionParseEnabled());
+        assertTrue(FlightRecording.isExecutionEnabled());
+
+        recording.stop();
+
+        assertFalse(FlightRecording.isCronParserEnabled());
+        assertFalse(FlightRecording.isExpressionParseEnabled());
+        assertFalse(FlightRecording.isExecutionEnabled());
+    }
+
+    @Test
+    public void testEnabledTypesOnly() {
+        recording.stop();
+        try (Recording executions = new Recording()) {
+            executions.disable(CronParserEvent.NAME);
+            executions.disable(ExpressionParseEvent.NAME);
+            executions.enable(ExecutionEvent.NAME);
+            executions.start();
+
+            assertFalse(FlightRecording.isCronParserEnabled());
+            assertFalse(FlightRecording.isExpressionParseEnabled());
+            assertTrue(FlightRecording.isExecutionEnabled());
+        }
+        assertFalse(FlightRecording.isExecutionEnabled());
+    }
+
+    @Test
+    public void testCronParserEvents() throws IOException {
+        new CronParser("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+
+        List<RecordedEvent> events = stop();
+
+        List<RecordedEvent> parsers = filter(events, CronParserEvent.NAME);
+        assertEquals(1, parsers.size());
+        assertEquals("*/15 0 1,15 * 1-5", parsers.get(0).getString("expression"));
+        assertEquals("/usr/bin/find", parsers.get(0).getString("command"));
+
+        List<RecordedEvent> expressions = filter(events, ExpressionParseEvent.NAME);
+        assertEquals(List.of("MinuteField", "HourField", "DayOfMonthField", "MonthField", "DayOfWeekField"), strings(expressions, "field"));
+        assertEquals(List.of("step", "value", "list", "any", "range"), strings(expressions, "shape"));
+        assertEquals(List.of("*/15", "0", "1,15", "*", "1-5"), strings(expressions, "expression"));
+    }
+
+    @Test
+    public void testExpressionChainEvents() throws IOException {
+        ExpressionFactory.build().parse("1-5,*/20", CompiledCron.HOUR);
+
+        List<RecordedEvent> events = filter(stop(), ExpressionParseEvent.NAME);
+        assertEquals(List.of("1-5,*/20"), strings(events, "expression"));
+        assertEquals(List.of("list"), strings(events, "shape"));
+        assertEquals("HourField", events.get(0).getString("field"));
+    }
+
+    @Test
+    public void testExecutionEvents() throws IOException {
+        CronParser parser = CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+        long epochMinute = 26_297_280L;
+        long next = parser.nextExecution(epochMinute);
+        long previous = parser.previousExecution(epochMinute);
+        parser.matchesMinute(next);
+        parser.matchesMinutes(new long[]{next - 1, next, next + 15});
+        parser.matches(LocalDateTime.of(2020, 1, 1, 0, 15));
+
+        List<RecordedEvent> events = filter(stop(), ExecutionEvent.NAME);
+        assertEquals(List.of("next", "previous", "match", "match batch", "match"), strings(events, "operation"));
+        assertEquals(next, events.get(0).getLong("result"));
+        assertEquals(epochMinute, events.get(0).getLong("epochMinute"));
+        assertEquals(previous, events.get(1).getLong("result"));
+        assertEquals(1L, events.get(2).getLong("result"));
+        assertEquals(2L, events.get(3).getLong("result"));
+        assertEquals(3, events.get(3).getInt("count"));
+        assertEquals(1L, events.get(4).getLong("result"));
+    }
+
+    @Test
+    public void testShape() {
+        assertEquals(ExpressionParseEvent.VALUE, ExpressionParseEvent.shape("5"));
+        assertEquals(ExpressionParseEvent.RANGE, ExpressionParseEvent.shape("1-5"));
+        assertEquals(ExpressionParseEvent.STEP, ExpressionParseEvent.shape("1-5/2"));
+        assertEquals(ExpressionParseEvent.LIST, ExpressionParseEvent.shape("1,*/2"));
+        assertEquals(ExpressionParseEvent.ANY, ExpressionParseEvent.shape("*"));
+    }
+
+    private List<RecordedEvent> stop() throws IOException {
+        recording.stop();
+        Path file = folder.newFile().toPath();
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    /**
+     * Returns the events of the type ordered by their start, so nested events follow the event enclosing them.
+     */
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> strings(List<RecordedEvent> events, String field) {
+        return events.stream().map(event -> event.getString(field)).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.cron.parser.expressions;
+
+import com.cron.parser.fields.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExpressionParserTest {
+
+    private static final int CORPUS_SIZE = 50_000;
+
+    private static final String ALPHABET = "0123456789*-/,+a ٣";
+
+    private static final List<Field> FIELDS = List.of(
+            new MinuteField(),
+            new HourField(),
+            new DayOfMonthField(),
+            new MonthField(),
+            new DayOfWeekField()
+    );
+
+    private Expression reference;
+
+    private ExpressionParser parser;
+
+    @Before
+    public void setUp() {
+        reference = ExpressionFactory.build();
+        parser = new ExpressionParser();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testConstructorsWithoutReason() {
+        IllegalStateException cause = new IllegalStateException();
+
+        assertEquals(ExpressionParserException.Reason.OTHER, new ExpressionParserException("message").getReason());
+        assertEquals(ExpressionParserException.Reason.OTHER, new ExpressionParserException("message", cause).getReason());
+        assertEquals(cause, new ExpressionParserException("message", cause).getCause());
+    }
+
+    @Test
+    public void testRandomCharacters() {
+        Random random = new Random(42);
+        for (Field field : FIELDS) {
+            for (int i = 0; i < CORPUS_SIZE; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(10);
+                for (int j = 0; j < length; j++) {
+                    input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                assertSameResult(input.toString(), field);
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedExpressions() {
+        Random random = new Random(7);
+        for (Field field : FIELDS) {
+            for (int i = 0; i < CORPUS_SIZE; i++) {
+                assertSameResult(generateList(random, field), field);
+            }
+        }
+    }
+
+    @Test
+    public void testNumberEdgeCases() {
+        String[] inputs = {
+                "", "+", "-", "+5", "+5-+7", "05", "2147483647", "2147483648", "-2147483648", "99999999999",
+                "*/2147483647", "*/-1", "*/+3", "*/1-2", "5/3/", "5/3//", "5//3", "/", "//5", "1-5-", "1--5",
+                "-5", "-5-", "*-5", "5-*", "*/", "**", ",", ",,", "1,", ",1"
+        };
+        for (Field field : FIELDS) {
+            for (String input : inputs) {
+                assertSameResult(input, field);
+            }
+        }
+    }
+
+    private void assertSameResult(String input, Field field) {
+        assertEquals("Input '" + input + "' for " + field, evaluate(reference, input, field), evaluate(input, field));
+    }
+
+    private String evaluate(Expression expression, String input, Field field) {
+        try {
+            return expression.parse(input, field).toString();
+        } catch (ExpressionParserException e) {
+            return e.getReason() + ": " + e.getMessage();
+        }
+    }
+
+    private String evaluate(String input, Field field) {
+        try {
+            return parser.parse(input, field).toString();
+        } catch (ExpressionParserException e) {
+            return e.getReason() + ": " + e.getMessage();
+        }
+    }
+
+    private String generateList(Random random, Field field) {
+        StringBuilder builder = new StringBuilder(generateSlice(random, field));
+        while (random.nextInt(3) == 0) {
+            builder.append(',').append(generateSlice(random, field));
+        }
+        return builder.toString();
+    }
+
+    private String generateSlice(Random random, Field field) {
+        String range;
+        switch (random.nextInt(3)) {
+            case 0:
+                range = "*";
+                break;
+            case 1:
+                range = String.valueOf(generateNumber(random, field));
+                break;
+            default:
+                range = generateNumber(random, field) + "-" + generateNumber(random, field);
+                break;
+        }
+        if (random.nextInt(3) == 0) {
+            range += "/" + (random.nextInt(field.getMax() + 3) - 1);
+        }
+        return range;
+    }
+
+    private int generateNumber(Random random, Field field) {
+        return field.getMin() - 1 + random.nextInt(field.getMax() - field.getMin() + 3);
+    }
+
+}
@@ -8,10 +8,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
 import static org.junit.Assert.assertEquals;
 
 public class DayOfMonthParserTest {
@@ -37,24 +33,24 @@ public class DayOfMonthParserTest {
 
     @Test
     public void testValue() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueLowerBound() {
-        Set<Integer> expected = Set.of(1);
-        Set<Integer> result = expression.parse("1", field);
+        FieldMask expected = FieldMask.of(1);
+        FieldMask result = expression.parse("1", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueUpperBound() {
-        Set<Integer> expected = Set.of(23);
-        Set<Integer> result = expression.parse("23", field);
+        FieldMask expected = FieldMask.of(23);
+        FieldMask result = expression.parse("23", field);
 
         assertEquals(expected, result);
     }
@@ -85,32 +81,32 @@ public class DayOfMonthParserTest {
 
     @Test
     public void testRange() {
-        Set<Integer> expected = Set.of(15, 16, 17, 18, 19, 20);
-        Set<Integer> result = expression.parse("15-20", field);
+        FieldMask expected = FieldMask.of(15, 16, 17, 18, 19, 20);
+        FieldMask result = expression.parse("15-20", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeBalanced() {
-        Set<Integer> expected = Set.of(15);
-        Set<Integer> result = expression.parse("15-15", field);
+        FieldMask expected = FieldMask.of(15);
+        FieldMask result = expression.parse("15-15", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeLowerBoundary() {
-        Set<Integer> expected = Set.of(1, 2, 3, 4, 5);
-        Set<Integer> result = expression.parse("1-5", field);
+        FieldMask expected = FieldMask.of(1, 2, 3, 4, 5);
+        FieldMask result = expression.parse("1-5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeUpperBoundary() {
-        Set<Integer> expected = Set.of(20, 21, 22, 23);
-        Set<Integer> result = expression.parse("20-23", field);
+        FieldMask expected = FieldMask.of(20, 21, 22, 23);
+        FieldMask result = expression.parse("20-23", field);
 
         assertEquals(expected, result);
     }
@@ -141,35 +137,32 @@ public class DayOfMonthParserTest {
 
     @Test
     public void testAnyValue() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(1, 31)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*", field);
+        FieldMask expected = FieldMask.range(1, 31);
+        FieldMask result = expression.parse("*", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueStep() {
-        Set<Integer> expected = Set.of(15);
-        Set<Integer> result = expression.parse("15/1", field);
+        FieldMask expected = FieldMask.of(15);
+        FieldMask result = expression.parse("15/1", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStepLarge() {
-        Set<Integer> expected = Set.of(15);
-        Set<Integer> result = expression.parse("15-20/11", field);
+        FieldMask expected = FieldMask.of(15);
+        FieldMask result = expression.parse("15-20/11", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStep() {
-        Set<Integer> expected = Set.of(15, 17, 19);
-        Set<Integer> result = expression.parse("15-20/2", field);
+        FieldMask expected = FieldMask.of(15, 17, 19);
+        FieldMask result = expression.parse("15-20/2", field);
 
         assertEquals(expected, result);
     }
@@ -208,51 +201,48 @@ public class DayOfMonthParserTest {
 
     @Test
     public void testAnyValueStep() {
-        Set<Integer> expected = Set.of(1, 11, 21, 31);
-        Set<Integer> result = expression.parse("*/10", field);
+        FieldMask expected = FieldMask.of(1, 11, 21, 31);
+        FieldMask result = expression.parse("*/10", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueSeparator() {
-        Set<Integer> expected = Set.of(5, 7, 15);
-        Set<Integer> result = expression.parse("5,7,15", field);
+        FieldMask expected = FieldMask.of(5, 7, 15);
+        FieldMask result = expression.parse("5,7,15", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeSeparator() {
-        Set<Integer> expected = Set.of(5, 6, 7, 8, 9, 10, 15, 16, 17);
-        Set<Integer> result = expression.parse("5-10,15-17", field);
+        FieldMask expected = FieldMask.of(5, 6, 7, 8, 9, 10, 15, 16, 17);
+        FieldMask result = expression.parse("5-10,15-17", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueAndRangeSeparator() {
-        Set<Integer> expected = Set.of(5, 15, 16, 17);
-        Set<Integer> result = expression.parse("5,15-17", field);
+        FieldMask expected = FieldMask.of(5, 15, 16, 17);
+        FieldMask result = expression.parse("5,15-17", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testAnyValueSeparator() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(1, 31)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*,15", field);
+        FieldMask expected = FieldMask.range(1, 31);
+        FieldMask result = expression.parse("*,15", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testStepSeparator() {
-        Set<Integer> expected = Set.of(5, 8, 15, 17, 19, 21, 23);
-        Set<Integer> result = expression.parse("5-10/3,15-23/2", field);
+        FieldMask expected = FieldMask.of(5, 8, 15, 17, 19, 21, 23);
+        FieldMask result = expression.parse("5-10/3,15-23/2", field);
 
         assertEquals(expected, result);
     }
@@ -8,10 +8,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
 import static org.junit.Assert.assertEquals;
 
 public class DayOfWeekParserTest {
@@ -37,24 +33,24 @@ public class DayOfWeekParserTest {
 
     @Test
     public void testValue() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueLowerBound() {
-        Set<Integer> expected = Set.of(0);
-        Set<Integer> result = expression.parse("0", field);
+        FieldMask expected = FieldMask.of(0);
+        FieldMask result = expression.parse("0", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueUpperBound() {
-        Set<Integer> expected = Set.of(6);
-        Set<Integer> result = expression.parse("6", field);
+        FieldMask expected = FieldMask.of(6);
+        FieldMask result = expression.parse("6", field);
 
         assertEquals(expected, result);
     }
@@ -85,32 +81,32 @@ public class DayOfWeekParserTest {
 
     @Test
     public void testRange() {
-        Set<Integer> expected = Set.of(1, 2, 3);
-        Set<Integer> result = expression.parse("1-3", field);
+        FieldMask expected = FieldMask.of(1, 2, 3);
+        FieldMask result = expression.parse("1-3", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeBalanced() {
-        Set<Integer> expected = Set.of(3);
-        Set<Integer> result = expression.parse("3-3", field);
+        FieldMask expected = FieldMask.of(3);
+        FieldMask result = expression.parse("3-3", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeLowerBoundary() {
-        Set<Integer> expected = Set.of(0, 1, 2, 3, 4, 5, 6);
-        Set<Integer> result = expression.parse("0-6", field);
+        FieldMask expected = FieldMask.of(0, 1, 2, 3, 4, 5, 6);
+        FieldMask result = expression.parse("0-6", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeUpperBoundary() {
-        Set<Integer> expected = Set.of(4, 5, 6);
-        Set<Integer> result = expression.parse("4-6", field);
+        FieldMask expected = FieldMask.of(4, 5, 6);
+        FieldMask result = expression.parse("4-6", field);
 
         assertEquals(expected, result);
     }
@@ -141,35 +137,32 @@ public class DayOfWeekParserTest {
 
     @Test
     public void testAnyValue() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(0, 6)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*", field);
+        FieldMask expected = FieldMask.range(0, 6);
+        FieldMask result = expression.parse("*", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueStep() {
-        Set<Integer> expected = Set.of(6);
-        Set<Integer> result = expression.parse("6/1", field);
+        FieldMask expected = FieldMask.of(6);
+        FieldMask result = expression.parse("6/1", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStepLarge() {
-        Set<Integer> expected = Set.of(3);
-        Set<Integer> result = expression.parse("3-6/10", field);
+        FieldMask expected = FieldMask.of(3);
+        FieldMask result = expression.parse("3-6/10", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStep() {
-        Set<Integer> expected = Set.of(0, 2, 4, 6);
-        Set<Integer> result = expression.parse("0-6/2", field);
+        FieldMask expected = FieldMask.of(0, 2, 4, 6);
+        FieldMask result = expression.parse("0-6/2", field);
 
         assertEquals(expected, result);
     }
@@ -208,51 +201,48 @@ public class DayOfWeekParserTest {
 
     @Test
     public void testAnyValueStep() {
-        Set<Integer> expected = Set.of(0, 3, 6);
-        Set<Integer> result = expression.parse("*/3", field);
+        FieldMask expected = FieldMask.of(0, 3, 6);
+        FieldMask result = expression.parse("*/3", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueSeparator() {
-        Set<Integer> expected = Set.of(1, 3, 5);
-        Set<Integer> result = expression.parse("1,3,5", field);
+        FieldMask expected = FieldMask.of(1, 3, 5);
+        FieldMask result = expression.parse("1,3,5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeSeparator() {
-        Set<Integer> expected = Set.of(0, 1, 2, 5, 6);
-        Set<Integer> result = expression.parse("0-2,5-6", field);
+        FieldMask expected = FieldMask.of(0, 1, 2, 5, 6);
+        FieldMask result = expression.parse("0-2,5-6", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueAndRangeSeparator() {
-        Set<Integer> expected = Set.of(0, 5, 6);
-        Set<Integer> result = expression.parse("0,5-6", field);
+        FieldMask expected = FieldMask.of(0, 5, 6);
+        FieldMask result = expression.parse("0,5-6", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testAnyValueSeparator() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(0, 6)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*,6", field);
+        FieldMask expected = FieldMask.range(0, 6);
+        FieldMask result = expression.parse("*,6", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testStepSeparator() {
-        Set<Integer> expected = Set.of(1, 2, 3, 5);
-        Set<Integer> result = expression.parse("1-3/1,5-6/2", field);
+        FieldMask expected = FieldMask.of(1, 2, 3, 5);
+        FieldMask result = expression.parse("1-3/1,5-6/2", field);
 
         assertEquals(expected, result);
     }
@@ -0,0 +1,72 @@
+package com.cron.parser.fields;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FieldMaskTest {
+
+    @Test
+    public void testRange() {
+        assertEquals(FieldMask.of(3, 4, 5), FieldMask.range(3, 5));
+        assertEquals(-1L, FieldMask.range(0, 63).getBits());
+        assertEquals(FieldMask.empty(), FieldMask.range(5, 3));
+    }
+
+    @Test
+    public void testUnion() {
+        FieldMask expected = FieldMask.of(1, 2, 10, 11);
+        FieldMask result = FieldMask.range(1, 2).union(FieldMask.range(10, 11));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testStep() {
+        FieldMask expected = FieldMask.of(0, 15, 30, 45);
+        FieldMask result = FieldMask.range(0, 59).step(15);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testStepUsesBoundsOfSparseMask() {
+        FieldMask expected = FieldMask.of(2, 5, 8);
+        FieldMask result = FieldMask.of(2, 9).step(3);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testQueries() {
+        FieldMask mask = FieldMask.of(7, 12, 40);
+
+        assertTrue(mask.contains(12));
+        assertFalse(mask.contains(13));
+        assertFalse(mask.contains(64));
+        assertEquals(3, mask.size());
+        assertEquals(7, mask.min());
+        assertEquals(40, mask.max());
+        assertEquals("FieldMask{values=[7, 12, 40]}", mask.toString());
+    }
+
+    @Test
+    public void testToExpression() {
+        Field field = new MinuteField();
+
+        assertEquals("*", FieldMask.range(0, 59).toExpression(field));
+        assertEquals("*/15", FieldMask.of(0, 15, 30, 45).toExpression(field));
+        assertEquals("5-50/15", FieldMask.of(5, 20, 35, 50).toExpression(field));
+        assertEquals("0,30", FieldMask.of(0, 30).toExpression(field));
+        assertEquals("1-5", FieldMask.of(1, 2, 3, 4, 5).toExpression(field));
+        assertEquals("1,2,7-9,59", FieldMask.of(1, 2, 7, 8, 9, 59).toExpression(field));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOutOfCapacity() {
+        FieldMask.of(64);
+    }
+
+}
@@ -8,10 +8,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
 import static org.junit.Assert.assertEquals;
 
 public class MinuteParserTest {
@@ -37,24 +33,24 @@ public class MinuteParserTest {
 
     @Test
     public void testValue() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueLowerBound() {
-        Set<Integer> expected = Set.of(0);
-        Set<Integer> result = expression.parse("0", field);
+        FieldMask expected = FieldMask.of(0);
+        FieldMask result = expression.parse("0", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueUpperBound() {
-        Set<Integer> expected = Set.of(59);
-        Set<Integer> result = expression.parse("59", field);
+        FieldMask expected = FieldMask.of(59);
+        FieldMask result = expression.parse("59", field);
 
         assertEquals(expected, result);
     }
@@ -85,32 +81,32 @@ public class MinuteParserTest {
 
     @Test
     public void testRange() {
-        Set<Integer> expected = Set.of(15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25);
-        Set<Integer> result = expression.parse("15-25", field);
+        FieldMask expected = FieldMask.of(15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25);
+        FieldMask result = expression.parse("15-25", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeBalanced() {
-        Set<Integer> expected = Set.of(15);
-        Set<Integer> result = expression.parse("15-15", field);
+        FieldMask expected = FieldMask.of(15);
+        FieldMask result = expression.parse("15-15", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeLowerBoundary() {
-        Set<Integer> expected = Set.of(0, 1, 2, 3, 4, 5);
-        Set<Integer> result = expression.parse("0-5", field);
+        FieldMask expected = FieldMask.of(0, 1, 2, 3, 4, 5);
+        FieldMask result = expression.parse("0-5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeUpperBoundary() {
-        Set<Integer> expected = Set.of(55, 56, 57, 58, 59);
-        Set<Integer> result = expression.parse("55-59", field);
+        FieldMask expected = FieldMask.of(55, 56, 57, 58, 59);
+        FieldMask result = expression.parse("55-59", field);
 
         assertEquals(expected, result);
     }
@@ -141,35 +137,32 @@ public class MinuteParserTest {
 
     @Test
     public void testAnyValue() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(0, 59)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*", field);
+        FieldMask expected = FieldMask.range(0, 59);
+        FieldMask result = expression.parse("*", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueStep() {
-        Set<Integer> expected = Set.of(15);
-        Set<Integer> result = expression.parse("15/1", field);
+        FieldMask expected = FieldMask.of(15);
+        FieldMask result = expression.parse("15/1", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStepLarge() {
-        Set<Integer> expected = Set.of(15);
-        Set<Integer> result = expression.parse("15-25/11", field);
+        FieldMask expected = FieldMask.of(15);
+        FieldMask result = expression.parse("15-25/11", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStep() {
-        Set<Integer> expected = Set.of(15, 17, 19, 21, 23, 25);
-        Set<Integer> result = expression.parse("15-25/2", field);
+        FieldMask expected = FieldMask.of(15, 17, 19, 21, 23, 25);
+        FieldMask result = expression.parse("15-25/2", field);
 
         assertEquals(expected, result);
     }
@@ -208,51 +201,48 @@ public class MinuteParserTest {
 
     @Test
     public void testAnyValueStep() {
-        Set<Integer> expected = Set.of(0, 10, 20, 30, 40, 50);
-        Set<Integer> result = expression.parse("*/10", field);
+        FieldMask expected = FieldMask.of(0, 10, 20, 30, 40, 50);
+        FieldMask result = expression.parse("*/10", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueSeparator() {
-        Set<Integer> expected = Set.of(5, 7, 15);
-        Set<Integer> result = expression.parse("5,7,15", field);
+        FieldMask expected = FieldMask.of(5, 7, 15);
+        FieldMask result = expression.parse("5,7,15", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeSeparator() {
-        Set<Integer> expected = Set.of(5, 6, 7, 8, 9, 10, 15, 16, 17);
-        Set<Integer> result = expression.parse("5-10,15-17", field);
+        FieldMask expected = FieldMask.of(5, 6, 7, 8, 9, 10, 15, 16, 17);
+        FieldMask result = expression.parse("5-10,15-17", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueAndRangeSeparator() {
-        Set<Integer> expected = Set.of(5, 15, 16, 17);
-        Set<Integer> result = expression.parse("5,15-17", field);
+        FieldMask expected = FieldMask.of(5, 15, 16, 17);
+        FieldMask result = expression.parse("5,15-17", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testAnyValueSeparator() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(0, 59)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*,15", field);
+        FieldMask expected = FieldMask.range(0, 59);
+        FieldMask result = expression.parse("*,15", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testStepSeparator() {
-        Set<Integer> expected = Set.of(5, 8, 15, 17, 19, 21, 23, 25);
-        Set<Integer> result = expression.parse("5-10/3,15-25/2", field);
+        FieldMask expected = FieldMask.of(5, 8, 15, 17, 19, 21, 23, 25);
+        FieldMask result = expression.parse("5-10/3,15-25/2", field);
 
         assertEquals(expected, result);
     }
@@ -8,10 +8,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
 import static org.junit.Assert.assertEquals;
 
 public class MonthParserTest {
@@ -37,24 +33,24 @@ public class MonthParserTest {
 
     @Test
     public void testValue() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueLowerBound() {
-        Set<Integer> expected = Set.of(1);
-        Set<Integer> result = expression.parse("1", field);
+        FieldMask expected = FieldMask.of(1);
+        FieldMask result = expression.parse("1", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueUpperBound() {
-        Set<Integer> expected = Set.of(12);
-        Set<Integer> result = expression.parse("12", field);
+        FieldMask expected = FieldMask.of(12);
+        FieldMask result = expression.parse("12", field);
 
         assertEquals(expected, result);
     }
@@ -85,32 +81,32 @@ public class MonthParserTest {
 
     @Test
     public void testRange() {
-        Set<Integer> expected = Set.of(5, 6, 7, 8, 9, 10);
-        Set<Integer> result = expression.parse("5-10", field);
+        FieldMask expected = FieldMask.of(5, 6, 7, 8, 9, 10);
+        FieldMask result = expression.parse("5-10", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeBalanced() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5-5", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5-5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeLowerBoundary() {
-        Set<Integer> expected = Set.of(1, 2, 3, 4, 5);
-        Set<Integer> result = expression.parse("1-5", field);
+        FieldMask expected = FieldMask.of(1, 2, 3, 4, 5);
+        FieldMask result = expression.parse("1-5", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeUpperBoundary() {
-        Set<Integer> expected = Set.of(10, 11, 12);
-        Set<Integer> result = expression.parse("10-12", field);
+        FieldMask expected = FieldMask.of(10, 11, 12);
+        FieldMask result = expression.parse("10-12", field);
 
         assertEquals(expected, result);
     }
@@ -141,35 +137,32 @@ public class MonthParserTest {
 
     @Test
     public void testAnyValue() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(1, 12)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*", field);
+        FieldMask expected = FieldMask.range(1, 12);
+        FieldMask result = expression.parse("*", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueStep() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5/1", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5/1", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStepLarge() {
-        Set<Integer> expected = Set.of(5);
-        Set<Integer> result = expression.parse("5-10/11", field);
+        FieldMask expected = FieldMask.of(5);
+        FieldMask result = expression.parse("5-10/11", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeStep() {
-        Set<Integer> expected = Set.of(5, 7, 9);
-        Set<Integer> result = expression.parse("5-10/2", field);
+        FieldMask expected = FieldMask.of(5, 7, 9);
+        FieldMask result = expression.parse("5-10/2", field);
 
         assertEquals(expected, result);
     }
@@ -208,51 +201,48 @@ public class MonthParserTest {
 
     @Test
     public void testAnyValueStep() {
-        Set<Integer> expected = Set.of(1, 11);
-        Set<Integer> result = expression.parse("*/10", field);
+        FieldMask expected = FieldMask.of(1, 11);
+        FieldMask result = expression.parse("*/10", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueSeparator() {
-        Set<Integer> expected = Set.of(5, 7, 10);
-        Set<Integer> result = expression.parse("5,7,10", field);
+        FieldMask expected = FieldMask.of(5, 7, 10);
+        FieldMask result = expression.parse("5,7,10", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testRangeSeparator() {
-        Set<Integer> expected = Set.of(1, 2, 3, 4, 5, 10, 11, 12);
-        Set<Integer> result = expression.parse("1-5,10-12", field);
+        FieldMask expected = FieldMask.of(1, 2, 3, 4, 5, 10, 11, 12);
+        FieldMask result = expression.parse("1-5,10-12", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testValueAndRangeSeparator() {
-        Set<Integer> expected = Set.of(5, 10, 11, 12);
-        Set<Integer> result = expression.parse("5,10-12", field);
+        FieldMask expected = FieldMask.of(5, 10, 11, 12);
+        FieldMask result = expression.parse("5,10-12", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testAnyValueSeparator() {
-        Set<Integer> expected = IntStream
-                .rangeClosed(1, 12)
-                .boxed()
-                .collect(Collectors.toSet());
-        Set<Integer> result = expression.parse("*,12", field);
+        FieldMask expected = FieldMask.range(1, 12);
+        FieldMask result = expression.parse("*,12", field);
 
         assertEquals(expected, result);
     }
 
     @Test
     public void testStepSeparator() {
-        Set<Integer> expected = Set.of(1, 4, 10, 12);
-        Set<Integer> result = expression.parse("1-5/3,10-12/2", field);
+        FieldMask expected = FieldMask.of(1, 4, 10, 12);
+        FieldMask result = expression.parse("1-5/3,10-12/2", field);
 
         assertEquals(expected, result);
     }
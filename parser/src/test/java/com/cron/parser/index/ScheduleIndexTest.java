@@ -0,0 +1,122 @@
+package com.cron.parser.index;
+
+import com.cron.parser.CompiledCron;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.cron.parser.workload.ScheduleFixtures.minute;
+import static com.cron.parser.workload.ScheduleFixtures.randomSchedule;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ScheduleIndexTest {
+
+    private ScheduleIndex index;
+
+    @Before
+    public void setUp() {
+        index = new ScheduleIndex();
+    }
+
+    @Test
+    public void testFiring() {
+        int quarterly = index.add(CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find"));
+        int hourly = index.add(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find"));
+        index.add(CompiledCron.compile("30", "12", "*", "*", "0", "/usr/bin/find"));
+
+        assertEquals(BitSet.valueOf(new long[]{1L << quarterly | 1L << hourly}), index.firing(minute(2020, 1, 1, 0, 0)));
+        assertEquals(BitSet.valueOf(new long[]{1L << quarterly}), index.firing(minute(2020, 1, 1, 0, 15)));
+        assertEquals(BitSet.valueOf(new long[]{1L << hourly}), index.firing(minute(2020, 1, 4, 0, 0)));
+        assertEquals(new BitSet(), index.firing(minute(2020, 1, 4, 0, 15)));
+    }
+
+    @Test
+    public void testRemoveReusesId() {
+        CompiledCron compiled = CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find");
+        int first = index.add(compiled);
+        int second = index.add(compiled);
+
+        assertSame(compiled, index.remove(first));
+        assertNull(index.get(first));
+        assertEquals(1, index.size());
+        assertEquals(BitSet.valueOf(new long[]{1L << second}), index.firing(0L));
+        assertEquals(first, index.add(CompiledCron.compile("1", "*", "*", "*", "*", "/usr/bin/find")));
+        assertEquals(BitSet.valueOf(new long[]{1L << second}), index.firing(0L));
+    }
+
+    @Test
+    public void testFiringAgreesWithLinearScan() {
+        Random random = new Random(29);
+        CompiledCron[] schedules = new CompiledCron[5_000];
+        for (int i = 0; i < schedules.length; i++) {
+            schedules[i] = randomSchedule(random, "/usr/bin/find");
+            index.add(schedules[i]);
+        }
+        for (int i = 0; i < schedules.length; i += 3) {
+            index.remove(i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            long epochMinute = random.nextInt(100_000_000) - 50_000_000;
+            BitSet expected = new BitSet();
+            for (int id = 0; id < schedules.length; id++) {
+                if (id % 3 != 0 && schedules[id].matchesMinute(epochMinute)) {
+                    expected.set(id);
+                }
+            }
+
+            assertEquals(expected, index.firing(epochMinute));
+        }
+    }
+
+    @Test
+    public void testExecutions() {
+        int quarterly = index.add(CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find"));
+        int hourly = index.add(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find"));
+        index.add(CompiledCron.compile("0", "12", "*", "*", "0", "/usr/bin/find"));
+
+        List<FireEvent> expected = List.of(
+                new FireEvent(quarterly, minute(2020, 1, 1, 0, 0)),
+                new FireEvent(hourly, minute(2020, 1, 1, 0, 0)),
+                new FireEvent(quarterly, minute(2020, 1, 1, 0, 15)),
+                new FireEvent(quarterly, minute(2020, 1, 1, 0, 30)),
+                new FireEvent(quarterly, minute(2020, 1, 1, 0, 45)),
+                new FireEvent(hourly, minute(2020, 1, 1, 1, 0)));
+        List<FireEvent> result = new ArrayList<>();
+        index.executions(minute(2020, 1, 1, 0, 0), minute(2020, 1, 1, 1, 1)).forEachRemaining(result::add);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testExecutionsAgreeWithSortedExecutions() {
+        Random random = new Random(37);
+        List<CompiledCron> schedules = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            CompiledCron compiled = randomSchedule(random, "/usr/bin/find");
+            schedules.add(compiled);
+            index.add(compiled);
+        }
+        long from = minute(2020, 3, 1, 2, 0);
+        long to = minute(2020, 3, 3, 4, 0);
+
+        List<FireEvent> expected = new ArrayList<>();
+        for (int id = 0; id < schedules.size(); id++) {
+            int scheduleId = id;
+            schedules.get(id).executions(from, to).forEach(epochMinute -> expected.add(new FireEvent(scheduleId, epochMinute)));
+        }
+        expected.sort(Comparator.comparingLong(FireEvent::getEpochMinute).thenComparingInt(FireEvent::getId));
+        List<FireEvent> result = new ArrayList<>();
+        index.executions(from, to).forEachRemaining(result::add);
+
+        assertEquals(expected, result);
+    }
+
+}
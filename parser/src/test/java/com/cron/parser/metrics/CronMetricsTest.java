@@ -0,0 +1,119 @@
+package com.cron.parser.metrics;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.cache.CronParserCache;
+import com.cron.parser.expressions.ExpressionParserException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CronMetricsTest {
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    private CronMetricsMXBean metrics;
+
+    @Before
+    public void setUp() throws Exception {
+        CronMetrics.register();
+        CronMetrics.getInstance().reset();
+        metrics = JMX.newMXBeanProxy(server, new ObjectName(CronMetrics.OBJECT_NAME), CronMetricsMXBean.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        CronMetrics.unregister();
+    }
+
+    @Test
+    public void testRecordsParses() {
+        CronParser parser = CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+        parser.nextExecution(0L);
+        parser.previousExecution(0L);
+        parser.matchesMinute(0L);
+        parser.matchesMinutes(new long[]{0L, 1L});
+
+        assertEquals(1, metrics.getParseCount());
+        assertEquals(0, metrics.getParseErrorCount());
+        assertEquals(1, metrics.getConstructionLatency().getCount());
+        assertEquals(2, metrics.getExecutionLatency().getCount());
+        assertEquals(2, metrics.getMatchLatency().getCount());
+    }
+
+    @Test
+    public void testCountsErrorsByCause() {
+        parseInvalid("60 0 * * * /usr/bin/find");
+        parseInvalid("0 5-1 * * * /usr/bin/find");
+        parseInvalid("0 */0 * * * /usr/bin/find");
+        parseInvalid("0 0 * * /usr/bin/find");
+
+        Map<String, Long> errors = metrics.getParseErrorCounts();
+        assertEquals(4, metrics.getParseCount());
+        assertEquals(4, metrics.getParseErrorCount());
+        assertEquals(Long.valueOf(1), errors.get(ExpressionParserException.Reason.ABOVE_UPPER_LIMIT.name()));
+        assertEquals(Long.valueOf(1), errors.get(ExpressionParserException.Reason.DESCENDING_RANGE.name()));
+        assertEquals(Long.valueOf(1), errors.get(ExpressionParserException.Reason.NON_POSITIVE_STEP.name()));
+        assertEquals(Long.valueOf(1), errors.get(CronMetrics.FIELD_COUNT));
+        assertEquals(Long.valueOf(0), errors.get(ExpressionParserException.Reason.INVALID_NUMBER.name()));
+    }
+
+    @Test
+    public void testCacheStatistics() {
+        CronParserCache cache = new CronParserCache(16);
+        CronMetrics.monitor(cache);
+        try {
+            cache.get("0 0 * * * /usr/bin/find");
+            cache.get("0 0 * * * /usr/bin/find");
+            cache.get("0 0 * * * /usr/bin/find");
+            cache.get("0 1 * * * /usr/bin/find");
+
+            assertEquals(2, metrics.getCacheHitCount());
+            assertEquals(2, metrics.getCacheMissCount());
+            assertEquals(0, metrics.getCacheEvictionCount());
+            assertEquals(0.5, metrics.getCacheHitRatio(), 0.0);
+        } finally {
+            CronMetrics.unmonitor(cache);
+        }
+    }
+
+    @Test
+    public void testCompositeLatency() throws Exception {
+        CronParser.parse("0 0 * * * /usr/bin/find");
+
+        CompositeData latency = (CompositeData) server.getAttribute(new ObjectName(CronMetrics.OBJECT_NAME), "ConstructionLatency");
+        assertEquals(1L, latency.get("count"));
+        assertTrue((Long) latency.get("maxNanos") > 0);
+    }
+
+    @Test
+    public void testUnregisterStopsRecording() throws Exception {
+        CronMetrics.unregister();
+        CronParser.parse("0 0 * * * /usr/bin/find");
+
+        assertFalse(CronMetrics.isEnabled());
+        assertFalse(server.isRegistered(new ObjectName(CronMetrics.OBJECT_NAME)));
+        assertEquals(0, CronMetrics.getInstance().getParseCount());
+    }
+
+    private static void parseInvalid(String expression) {
+        try {
+            CronParser.parse(expression);
+            fail(expression);
+        } catch (IllegalArgumentException | ExpressionParserException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.cron.parser.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(value));
+            assertTrue(value + " > " + highest, highest >= value);
+            assertTrue(value + " ~ " + highest, highest - value <= value / 32);
+        }
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE,
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(LatencyHistogram.MAXIMUM_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMeanNanos(), 0.0);
+        assertEquals(503, snapshot.getP50Nanos());
+        assertEquals(991, snapshot.getP99Nanos());
+        assertEquals(1007, snapshot.getP999Nanos());
+        assertEquals(1000, snapshot.getMaxNanos());
+    }
+
+    @Test
+    public void testOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getP50Nanos());
+        assertEquals(LatencyHistogram.MAXIMUM_VALUE, snapshot.getMaxNanos());
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0.0, snapshot.getMeanNanos(), 0.0);
+        assertEquals(0, snapshot.getP99Nanos());
+        assertEquals(0, snapshot.getMaxNanos());
+    }
+
+}
@@ -0,0 +1,257 @@
+package com.cron.parser.scheduler;
+
+import com.cron.parser.CompiledCron;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CommandExecutorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TimingWheelScheduler scheduler;
+
+    private List<String> results;
+
+    private CountDownLatch done;
+
+    private CommandListener listener;
+
+    @Before
+    public void setUp() {
+        scheduler = new TimingWheelScheduler(Clock.systemUTC(), (job, epochMinute) -> {
+        });
+        results = new CopyOnWriteArrayList<>();
+        listener = new CommandListener() {
+            @Override
+            public void completed(ScheduledJob job, long epochMinute, int exitCode, String output) {
+                results.add(epochMinute + ":" + exitCode + ":" + output);
+                done.countDown();
+            }
+
+            @Override
+            public void skipped(ScheduledJob job, long epochMinute) {
+                results.add(epochMinute + ":skipped");
+                done.countDown();
+            }
+
+            @Override
+            public void failed(ScheduledJob job, long epochMinute, Exception exception) {
+                results.add(epochMinute + ":failed");
+                done.countDown();
+            }
+        };
+    }
+
+    @Test
+    public void testCollectsOutputAndExitCode() throws InterruptedException {
+        done = new CountDownLatch(1);
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener)) {
+            executor.fired(job("echo out; echo err >&2; exit 3"), 1L);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("1:3:out\nerr\n"), results);
+    }
+
+    @Test
+    public void testWaitsForCommandClosingItsOutput() throws InterruptedException {
+        done = new CountDownLatch(1);
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener)) {
+            executor.fired(job("echo out; exec >&- 2>&-; sleep 0.2; exit 3"), 1L);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("1:3:out\n"), results);
+    }
+
+    @Test
+    public void testKeepsTailOfLargeOutput() throws InterruptedException {
+        done = new CountDownLatch(1);
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener)) {
+            executor.fired(job("head -c 1000000 /dev/zero | tr '\\0' a; echo end"), 1L);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        String output = results.get(0).substring("1:0:".length());
+        assertEquals(CommandExecutor.OUTPUT_LIMIT, output.length());
+        assertTrue(output.endsWith("aaaend\n"));
+    }
+
+    @Test
+    public void testSkipsOverlappingRuns() throws InterruptedException {
+        done = new CountDownLatch(2);
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener)) {
+            ScheduledJob job = job("sleep 0.5");
+            executor.fired(job, 1L);
+            executor.fired(job, 2L);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("2:skipped", "1:0:"), results);
+    }
+
+    @Test
+    public void testQueuesOverlappingRuns() throws InterruptedException {
+        done = new CountDownLatch(3);
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.QUEUE, listener)) {
+            ScheduledJob job = job("sleep 0.2");
+            executor.fired(job, 1L);
+            executor.fired(job, 2L);
+            executor.fired(job, 3L);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("1:0:", "2:0:", "3:0:"), results);
+    }
+
+    @Test
+    public void testRunsDifferentJobsInParallel() throws InterruptedException {
+        done = new CountDownLatch(2);
+        String first = folder.getRoot() + "/first";
+        String second = folder.getRoot() + "/second";
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener)) {
+            // each command only exits once the other one started
+            executor.fired(job("touch " + first + "; " + awaitFile(second)), 1L);
+            executor.fired(job("touch " + second + "; " + awaitFile(first)), 2L);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void testLimitsRunningCommands() throws InterruptedException {
+        done = new CountDownLatch(6);
+        String running = folder.getRoot().toString();
+        try (CommandExecutor executor = CommandExecutor.create(2, 1, CommandExecutor.OverlapPolicy.SKIP, listener)) {
+            for (int i = 1; i <= 6; i++) {
+                String file = running + "/" + i;
+                executor.fired(job("touch " + file + "; sleep 0.1; ls " + running + " | wc -l; rm " + file), i);
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(6, results.size());
+        for (String result : results) {
+            int count = Integer.parseInt(result.substring(result.lastIndexOf(':') + 1).trim());
+            assertTrue(result, count >= 1 && count <= 2);
+        }
+    }
+
+    @Test
+    public void testBoundsQueuedRuns() throws IOException, InterruptedException {
+        done = new CountDownLatch(CommandExecutor.QUEUE_LIMIT + 2);
+        String release = folder.getRoot() + "/release";
+        try (CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.QUEUE, listener)) {
+            ScheduledJob job = job(awaitFile(release));
+            for (int i = 0; i < CommandExecutor.QUEUE_LIMIT + 2; i++) {
+                executor.fired(job, i);
+            }
+            assertEquals(List.of((CommandExecutor.QUEUE_LIMIT + 1) + ":skipped"), results);
+
+            assertTrue(new File(release).createNewFile());
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        }
+
+        assertEquals(CommandExecutor.QUEUE_LIMIT + 2, results.size());
+        assertEquals("0:0:", results.get(1));
+        assertEquals(CommandExecutor.QUEUE_LIMIT + ":0:", results.get(CommandExecutor.QUEUE_LIMIT + 1));
+    }
+
+    @Test
+    public void testReportsRejectedRunsAsFailed() throws InterruptedException {
+        done = new CountDownLatch(2);
+        CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener);
+        executor.close();
+
+        ScheduledJob job = job("true");
+        executor.fired(job, 1L);
+        executor.fired(job, 2L);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("1:failed", "2:failed"), results);
+    }
+
+    @Test
+    public void testKillsRunningCommandsOnClose() throws InterruptedException {
+        done = new CountDownLatch(1);
+        String started = folder.getRoot() + "/started";
+        CommandExecutor executor = CommandExecutor.create(4, 1, CommandExecutor.OverlapPolicy.SKIP, listener);
+        executor.fired(job("touch " + started + "; sleep 60"), 1L);
+        awaitStarted(started);
+        executor.close();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("1:failed"), results);
+    }
+
+    @Test
+    public void testDoesNotStartSubmittedRunsOnClose() throws InterruptedException {
+        done = new CountDownLatch(2);
+        String started = folder.getRoot() + "/started";
+        File second = new File(folder.getRoot(), "second");
+        CommandExecutor executor = CommandExecutor.create(1, 1, CommandExecutor.OverlapPolicy.SKIP, listener);
+        executor.fired(job("touch " + started + "; sleep 60"), 1L);
+        executor.fired(job("touch " + second), 2L);
+        awaitStarted(started);
+        executor.close();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("1:failed", "2:failed"), results);
+        assertFalse(second.exists());
+    }
+
+    @Test
+    public void testKillsCommandsOfInterruptedWorkers() throws InterruptedException {
+        done = new CountDownLatch(1);
+        String started = folder.getRoot() + "/started";
+        ExecutorService workers = Executors.newCachedThreadPool();
+        CommandExecutor executor = new CommandExecutor(workers, 4, 1, CommandExecutor.OverlapPolicy.SKIP, listener);
+        executor.fired(job("touch " + started + "; sleep 60"), 1L);
+        awaitStarted(started);
+        workers.shutdownNow();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+        assertNotEquals("1:0:", results.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLimit() {
+        CommandExecutor.create(0, 1, CommandExecutor.OverlapPolicy.SKIP, listener);
+    }
+
+    private static String awaitFile(String file) {
+        return "while [ ! -f " + file + " ]; do sleep 0.01; done";
+    }
+
+    private static void awaitStarted(String file) throws InterruptedException {
+        for (int i = 0; i < 1_000 && !new File(file).exists(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(new File(file).exists());
+    }
+
+    private ScheduledJob job(String command) {
+        return scheduler.schedule(CompiledCron.compile("0", "0", "1", "1", "*", command));
+    }
+
+}
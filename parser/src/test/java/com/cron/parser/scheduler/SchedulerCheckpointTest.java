@@ -0,0 +1,216 @@
+package com.cron.parser.scheduler;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.scheduler.TimingWheelSchedulerTest.SimulatedClock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cron.parser.workload.ScheduleFixtures.minute;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SchedulerCheckpointTest {
+
+    private static final CompiledCron QUARTERLY = CompiledCron.compile("*/15", "*", "*", "*", "*", "/usr/bin/quarterly");
+    private static final CompiledCron HOURLY = CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/hourly");
+    private static final CompiledCron DAILY = CompiledCron.compile("30", "12", "*", "*", "*", "/usr/bin/daily");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file;
+    private SimulatedClock clock;
+    private List<String> fired;
+    private SchedulerCheckpoint checkpoint;
+    private TimingWheelScheduler scheduler;
+
+    @Before
+    public void setUp() throws IOException {
+        file = folder.getRoot().toPath().resolve("scheduler.checkpoint");
+        clock = new SimulatedClock(minute(2020, 1, 1, 0, 0));
+        fired = new ArrayList<>();
+        start();
+    }
+
+    @After
+    public void tearDown() {
+        checkpoint.close();
+    }
+
+    @Test
+    public void testRecordsFiredJobs() {
+        checkpoint.schedule(scheduler, 0, QUARTERLY);
+        checkpoint.schedule(scheduler, 1, HOURLY);
+
+        assertEquals(CompiledCron.NO_EXECUTION, checkpoint.getLastExecution(0));
+        assertEquals(minute(2020, 1, 1, 0, 15), checkpoint.getNextExecution(0));
+
+        clock.set(minute(2020, 1, 1, 1, 5));
+        assertEquals(5, scheduler.tick());
+
+        assertEquals(List.of("/usr/bin/quarterly@00:15", "/usr/bin/quarterly@00:30", "/usr/bin/quarterly@00:45",
+                "/usr/bin/quarterly@01:00", "/usr/bin/hourly@01:00"), fired);
+        assertEquals(minute(2020, 1, 1, 1, 0), checkpoint.getLastExecution(0));
+        assertEquals(minute(2020, 1, 1, 1, 15), checkpoint.getNextExecution(0));
+        assertEquals(minute(2020, 1, 1, 1, 0), checkpoint.getLastExecution(1));
+        assertEquals(minute(2020, 1, 1, 2, 0), checkpoint.getNextExecution(1));
+        assertEquals(CompiledCron.NO_EXECUTION, checkpoint.getNextExecution(2));
+    }
+
+    @Test
+    public void testRecoverRestoresArmedExecutions() throws IOException {
+        checkpoint.schedule(scheduler, 0, QUARTERLY);
+        checkpoint.schedule(scheduler, 1, HOURLY);
+        checkpoint.schedule(scheduler, 2, DAILY);
+        clock.set(minute(2020, 1, 1, 0, 20));
+        scheduler.tick();
+        restart(minute(2020, 1, 1, 0, 25));
+
+        ScheduledJob[] jobs = checkpoint.recover(scheduler, id -> new CompiledCron[]{QUARTERLY, HOURLY, DAILY}[id], 3);
+
+        assertEquals(3, checkpoint.getRestoredCount());
+        assertEquals(0, checkpoint.getRearmedCount());
+        assertArrayEquals(new long[]{minute(2020, 1, 1, 0, 30), minute(2020, 1, 1, 1, 0), minute(2020, 1, 1, 12, 30)},
+                new long[]{jobs[0].getNextExecution(), jobs[1].getNextExecution(), jobs[2].getNextExecution()});
+        assertEquals(minute(2020, 1, 1, 0, 15), checkpoint.getLastExecution(0));
+
+        clock.set(minute(2020, 1, 1, 0, 30));
+        assertEquals(1, scheduler.tick());
+        assertEquals(List.of("/usr/bin/quarterly@00:30"), fired);
+    }
+
+    @Test
+    public void testRecoverRearmsMissedChangedAndRemovedJobs() throws IOException {
+        checkpoint.schedule(scheduler, 0, QUARTERLY);
+        checkpoint.schedule(scheduler, 1, HOURLY);
+        checkpoint.schedule(scheduler, 2, DAILY);
+        restart(minute(2020, 1, 1, 0, 50));
+
+        ScheduledJob[] jobs = checkpoint.recover(scheduler, id -> id == 0 ? QUARTERLY : id == 1 ? DAILY : null, 3);
+
+        assertEquals(0, checkpoint.getRestoredCount());
+        assertEquals(2, checkpoint.getRearmedCount());
+        assertEquals(minute(2020, 1, 1, 1, 0), jobs[0].getNextExecution());
+        assertEquals(minute(2020, 1, 1, 12, 30), jobs[1].getNextExecution());
+        assertNull(jobs[2]);
+        assertEquals(minute(2020, 1, 1, 1, 0), checkpoint.getNextExecution(0));
+        assertEquals(minute(2020, 1, 1, 12, 30), checkpoint.getNextExecution(1));
+        assertEquals(CompiledCron.NO_EXECUTION, checkpoint.getNextExecution(2));
+        assertEquals(2, scheduler.size());
+    }
+
+    @Test
+    public void testRecoverRejectsTornRecord() throws IOException {
+        checkpoint.schedule(scheduler, 0, HOURLY);
+        checkpoint.schedule(scheduler, 1, HOURLY);
+        checkpoint.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1}), SchedulerCheckpoint.HEADER_SIZE + SchedulerCheckpoint.RECORD_SIZE + Long.BYTES);
+        }
+        restart(minute(2020, 1, 1, 0, 5));
+
+        ScheduledJob[] jobs = checkpoint.recover(scheduler, id -> HOURLY, 2);
+
+        assertEquals(1, checkpoint.getRestoredCount());
+        assertEquals(1, checkpoint.getRearmedCount());
+        assertEquals(minute(2020, 1, 1, 1, 0), jobs[1].getNextExecution());
+        assertEquals(minute(2020, 1, 1, 1, 0), checkpoint.getNextExecution(1));
+    }
+
+    @Test
+    public void testExtendsCapacity() throws IOException {
+        checkpoint.schedule(scheduler, 15, HOURLY);
+        checkpoint.close();
+
+        checkpoint = SchedulerCheckpoint.open(file, 64, Duration.ofSeconds(1), (job, epochMinute) -> { });
+
+        assertEquals(64, checkpoint.getCapacity());
+        assertEquals(minute(2020, 1, 1, 1, 0), checkpoint.getNextExecution(15));
+        assertEquals(CompiledCron.NO_EXECUTION, checkpoint.getNextExecution(63));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsForeignFile() throws IOException {
+        Path foreign = folder.newFile("foreign").toPath();
+        Files.write(foreign, new byte[64]);
+
+        SchedulerCheckpoint.open(foreign, 16, Duration.ofSeconds(1), (job, epochMinute) -> { });
+    }
+
+    @Test
+    public void testForcesOnceIntervalElapsedWithoutFiring() throws IOException {
+        checkpoint.close();
+        checkpoint = SchedulerCheckpoint.open(file, 16, clock, Duration.ofMinutes(5), (job, epochMinute) -> { });
+        scheduler = new TimingWheelScheduler(clock, checkpoint);
+        checkpoint.schedule(scheduler, 0, HOURLY);
+        assertTrue(checkpoint.isDirty());
+
+        clock.set(minute(2020, 1, 1, 0, 4));
+        assertEquals(0, scheduler.tick());
+        assertTrue(checkpoint.isDirty());
+
+        clock.set(minute(2020, 1, 1, 0, 5));
+        assertEquals(0, scheduler.tick());
+        assertFalse(checkpoint.isDirty());
+
+        clock.set(minute(2020, 1, 1, 0, 58));
+        assertEquals(0, scheduler.tick());
+        clock.set(minute(2020, 1, 1, 1, 0));
+        assertEquals(1, scheduler.tick());
+        assertTrue(checkpoint.isDirty());
+
+        clock.set(minute(2020, 1, 1, 1, 3));
+        assertEquals(0, scheduler.tick());
+        assertFalse(checkpoint.isDirty());
+    }
+
+    @Test
+    public void testFingerprint() {
+        assertEquals(SchedulerCheckpoint.fingerprint(HOURLY),
+                SchedulerCheckpoint.fingerprint(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/hourly")));
+        assertNotEquals(SchedulerCheckpoint.fingerprint(HOURLY),
+                SchedulerCheckpoint.fingerprint(HOURLY.withCommand("/usr/bin/daily")));
+        assertNotEquals(SchedulerCheckpoint.fingerprint(HOURLY),
+                SchedulerCheckpoint.fingerprint(CompiledCron.compile("1", "*", "*", "*", "*", "/usr/bin/hourly")));
+        assertNotEquals(SchedulerCheckpoint.fingerprint(HOURLY),
+                SchedulerCheckpoint.fingerprint(CompiledCron.compile("*", "0", "*", "*", "*", "/usr/bin/hourly")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsIdBeyondCapacity() {
+        checkpoint.schedule(scheduler, 16, HOURLY);
+    }
+
+    private void start() throws IOException {
+        checkpoint = SchedulerCheckpoint.open(file, 16, Duration.ZERO, (job, epochMinute) -> fired.add(
+                job.getSchedule().getCommand() + "@" + LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC).toLocalTime()));
+        scheduler = new TimingWheelScheduler(clock, checkpoint);
+    }
+
+    private void restart(long epochMinute) throws IOException {
+        checkpoint.close();
+        clock.set(epochMinute);
+        fired.clear();
+        start();
+    }
+
+}
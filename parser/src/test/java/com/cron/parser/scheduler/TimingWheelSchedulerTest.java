@@ -0,0 +1,144 @@
+package com.cron.parser.scheduler;
+
+import com.cron.parser.CompiledCron;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.cron.parser.workload.ScheduleFixtures.minute;
+import static com.cron.parser.workload.ScheduleFixtures.randomSchedule;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelSchedulerTest {
+
+    private SimulatedClock clock;
+
+    private List<String> fired;
+
+    private TimingWheelScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        clock = new SimulatedClock(minute(2020, 1, 1, 0, 0));
+        fired = new ArrayList<>();
+        scheduler = new TimingWheelScheduler(clock, (job, epochMinute) -> fired.add(job.getSchedule().getCommand() + "@" + epochMinute));
+    }
+
+    @Test
+    public void testFiresAndRearms() {
+        ScheduledJob job = scheduler.schedule(CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find"));
+
+        assertEquals(minute(2020, 1, 1, 0, 15), job.getNextExecution());
+
+        clock.set(minute(2020, 1, 1, 0, 40));
+        assertEquals(2, scheduler.tick());
+        assertEquals(List.of("/usr/bin/find@" + minute(2020, 1, 1, 0, 15), "/usr/bin/find@" + minute(2020, 1, 1, 0, 30)), fired);
+        assertEquals(minute(2020, 1, 1, 0, 45), job.getNextExecution());
+
+        clock.set(minute(2020, 1, 3, 0, 0));
+        assertEquals(6, scheduler.tick());
+        assertEquals(minute(2020, 1, 3, 0, 15), job.getNextExecution());
+    }
+
+    @Test
+    public void testCancel() {
+        ScheduledJob job = scheduler.schedule(CompiledCron.compile("*", "*", "*", "*", "*", "/usr/bin/find"));
+
+        assertTrue(job.cancel());
+        assertFalse(job.cancel());
+        assertFalse(job.isScheduled());
+        assertEquals(0, scheduler.size());
+
+        clock.set(minute(2020, 1, 1, 1, 0));
+        assertEquals(0, scheduler.tick());
+    }
+
+    @Test
+    public void testNeverFiringScheduleIsNotArmed() {
+        ScheduledJob job = scheduler.schedule(CompiledCron.compile("0", "0", "30", "2", "*", "/usr/bin/find"));
+
+        assertFalse(job.isScheduled());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testOverflowBeyondDayWheel() {
+        clock.set(minute(2021, 3, 1, 0, 0));
+        scheduler = new TimingWheelScheduler(clock, (job, epochMinute) -> fired.add("leap@" + epochMinute));
+        scheduler.schedule(CompiledCron.compile("0", "12", "29", "2", "*", "/usr/bin/find"));
+
+        clock.set(minute(2024, 3, 1, 0, 0));
+        assertEquals(1, scheduler.tick());
+        assertEquals(List.of("leap@" + minute(2024, 2, 29, 12, 0)), fired);
+    }
+
+    @Test
+    public void testFiresLikeExecutionStreams() {
+        Random random = new Random(41);
+        List<CompiledCron> schedules = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            CompiledCron compiled = randomSchedule(random, "job" + i);
+            schedules.add(compiled);
+            scheduler.schedule(compiled);
+        }
+        long from = minute(2020, 1, 1, 0, 1);
+        long to = minute(2020, 1, 11, 0, 1);
+
+        List<String> expected = new ArrayList<>();
+        for (CompiledCron compiled : schedules) {
+            compiled.executions(from, to).forEach(epochMinute -> expected.add(compiled.getCommand() + "@" + epochMinute));
+        }
+        for (long epochMinute = from; epochMinute < to; epochMinute += random.nextInt(600)) {
+            clock.set(epochMinute);
+            scheduler.tick();
+        }
+        clock.set(to - 1);
+        scheduler.tick();
+
+        Collections.sort(expected);
+        Collections.sort(fired);
+        assertEquals(expected, fired);
+    }
+
+
+
+    static class SimulatedClock extends Clock {
+
+        private volatile long epochMinute;
+
+        SimulatedClock(long epochMinute) {
+            this.epochMinute = epochMinute;
+        }
+
+        void set(long epochMinute) {
+            this.epochMinute = epochMinute;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochSecond(epochMinute * 60);
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.cron.parser.server;
+
+import com.cron.parser.CronParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CronServerTest {
+
+    private CronServer server;
+
+    private CronClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new CronServer(0);
+        server.start();
+        client = new CronClient(server.getPort());
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        server.close();
+    }
+
+    @Test
+    public void testParse() throws IOException {
+        String response = client.send(CronServer.PARSE, "*/15 0 1,15 * 1-5 /usr/bin/find", null);
+
+        assertEquals(CronParser.parse("*/15 0 1,15 * 1-5 /usr/bin/find").getStats() + "\n", response);
+    }
+
+    @Test
+    public void testValidateBatch() throws IOException {
+        String response = client.send(CronServer.VALIDATE, "0 0 * * * /bin/a\n\n0 0 32 * * /bin/b\n# comment\n0 0 * *\n", null);
+
+        assertEquals(
+                "valid\n" +
+                "line 3: Value 32 is above the upper limit for Field{min=1, max=31}\n" +
+                "line 5: Invalid number of cron fields in 0 0 * *\n",
+                response);
+    }
+
+    @Test
+    public void testRejectsLineWithoutCommand() throws IOException {
+        String message = null;
+        try {
+            CronParser.parse("0 0 * * *");
+            fail();
+        } catch (IllegalArgumentException e) {
+            message = e.getMessage();
+        }
+
+        assertEquals("line 1: " + message + "\n", client.send(CronServer.VALIDATE, "0 0 * * *", null));
+        assertEquals("line 1: " + message + "\n", client.send(CronServer.PARSE, "0 0 * * *", null));
+        assertEquals(0, server.getCache().size());
+    }
+
+    @Test
+    public void testNext() throws IOException {
+        String response = client.send(CronServer.NEXT, "*/15 0 1,15 * 1-5 /usr/bin/find\n0 0 30 2 * /bin/never\n", "from=2020-01-01T00:20&count=3");
+
+        assertEquals("2020-01-01T00:30 2020-01-01T00:45 2020-01-02T00:00\nnever\n", response);
+    }
+
+    @Test
+    public void testKeepsSchedulesWarm() throws IOException {
+        client.send(CronServer.VALIDATE, "0 0 * * * /bin/a\n0 0 * * * /bin/a\n", null);
+        client.send(CronServer.VALIDATE, "0  0 * * *   /bin/a", null);
+
+        assertEquals(1, server.getCache().size());
+        assertEquals(2, server.getCache().getHitCount());
+    }
+
+    @Test
+    public void testInvalidQuery() throws IOException {
+        try {
+            client.send(CronServer.NEXT, "0 0 * * * /bin/a", "count=0");
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Server responded with 400"));
+        }
+    }
+
+    @Test
+    public void testMethodNotAllowed() throws IOException {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(), "/" + CronServer.PARSE);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+
+        assertEquals(405, connection.getResponseCode());
+        connection.disconnect();
+    }
+
+}
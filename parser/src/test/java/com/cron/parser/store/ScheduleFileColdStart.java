@@ -0,0 +1,114 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.CronParser;
+import com.cron.parser.workload.CrontabGenerator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the time from launching a JVM until it answers which of the generated schedules fire in a minute, when the
+ * schedules are parsed from a crontab, read from a {@link ScheduleFile} into the heap, or mapped. The arguments are
+ * the number of schedules and the number of launches.
+ */
+public class ScheduleFileColdStart {
+
+    private static final long EPOCH_MINUTE = 27_000_000L;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && !Character.isDigit(args[0].charAt(0))) {
+            load(args[0], Paths.get(args[1]));
+            return;
+        }
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int launches = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Path crontab = Files.createTempFile("crontab", ".txt");
+        Path schedules = Files.createTempFile("schedules", ".bin");
+        try {
+            new CrontabGenerator(23, 0.0).write(crontab, count);
+            List<CompiledCron> compiled = new ArrayList<>(count);
+            for (String line : Files.readAllLines(crontab)) {
+                compiled.add(CronParser.parse(line).getCompiled());
+            }
+            ScheduleFile.write(schedules, compiled);
+            System.out.printf("%,d schedules, %,d bytes of text, %,d bytes of binary%n",
+                    count, Files.size(crontab), Files.size(schedules));
+
+            run("text", crontab, launches);
+            run("read", schedules, launches);
+            run("map", schedules, launches);
+        } finally {
+            Files.delete(crontab);
+            Files.delete(schedules);
+        }
+    }
+
+    private static void load(String mode, Path file) throws IOException {
+        int[] firing = new int[1];
+        switch (mode) {
+            case "text":
+                ScheduleStore parsed = new ScheduleStore();
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        parsed.add(CronParser.parse(line).getCompiled());
+                    }
+                }
+                parsed.forEachFiring(EPOCH_MINUTE, id -> firing[0]++);
+                break;
+            case "read":
+                ScheduleStore read = new ScheduleStore();
+                try (FileChannel channel = FileChannel.open(file)) {
+                    for (CompiledCron compiled : ScheduleFile.read(channel)) {
+                        read.add(compiled);
+                    }
+                }
+                read.forEachFiring(EPOCH_MINUTE, id -> firing[0]++);
+                break;
+            case "map":
+                ScheduleFile.map(file).forEachFiring(EPOCH_MINUTE, id -> firing[0]++);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        System.out.println(firing[0]);
+    }
+
+    private static void run(String mode, Path file, int launches) throws IOException, InterruptedException {
+        List<String> command = List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ScheduleFileColdStart.class.getName(), mode, file.toString());
+
+        long[] times = new long[launches];
+        for (int i = 0; i < launches; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (InputStream output = process.getInputStream()) {
+                if (output.read() < 0) {
+                    throw new IllegalStateException("No output from " + command);
+                }
+                times[i] = System.nanoTime() - start;
+                output.transferTo(OutputStream.nullOutputStream());
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Command failed: " + command);
+            }
+        }
+        Arrays.sort(times);
+        System.out.printf("%s: median %.1f ms, min %.1f ms until the first query is answered over %d launches%n",
+                mode, times[launches / 2] / 1e6, times[0] / 1e6, launches);
+    }
+
+}
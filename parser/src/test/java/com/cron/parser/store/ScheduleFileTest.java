@@ -0,0 +1,203 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.CronParser;
+import com.cron.parser.workload.CrontabGenerator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ScheduleFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<CompiledCron> schedules;
+
+    @Before
+    public void setUp() {
+        schedules = new ArrayList<>();
+        for (String line : new CrontabGenerator(11, 0.0).generate(5_000)) {
+            schedules.add(CronParser.parse(line).getCompiled());
+        }
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ScheduleFile.write(Channels.newChannel(output), schedules);
+
+        List<CompiledCron> result = ScheduleFile.read(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+
+        assertEquals(schedules, result);
+        for (int i = 0; i < schedules.size(); i++) {
+            assertEquals(schedules.get(i), result.get(i));
+            assertEquals(schedules.get(i).toExpression(), result.get(i).toExpression());
+        }
+    }
+
+    @Test
+    public void testMappedRoundTrip() throws IOException {
+        Path file = folder.newFile("schedules.bin").toPath();
+        ScheduleFile.write(file, schedules);
+
+        MappedSchedules mapped = ScheduleFile.map(file);
+
+        assertEquals(schedules.size(), mapped.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            assertEquals(schedules.get(i), mapped.get(i));
+            assertEquals(schedules.get(i).getCommand(), mapped.getCommand(i));
+        }
+        assertEquals(schedules.stream().map(CompiledCron::getCommand).distinct().count(), mapped.commandCount());
+    }
+
+    @Test
+    public void testMappedFiringAgreesWithCompiledSchedules() throws IOException {
+        Path file = folder.newFile("schedules.bin").toPath();
+        ScheduleFile.write(file, schedules);
+        MappedSchedules mapped = ScheduleFile.map(file);
+
+        Random random = new Random(41);
+        for (int i = 0; i < 200; i++) {
+            long epochMinute = 26_000_000L + random.nextInt(2_000_000);
+            BitSet expected = new BitSet();
+            for (int id = 0; id < schedules.size(); id++) {
+                if (schedules.get(id).matchesMinute(epochMinute)) {
+                    expected.set(id);
+                }
+            }
+
+            assertEquals(expected, mapped.firing(epochMinute));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        Path file = folder.newFile("schedules.bin").toPath();
+        ScheduleFile.write(file, List.of());
+
+        assertEquals(0, ScheduleFile.map(file).size());
+        assertEquals(List.of(), ScheduleFile.read(Channels.newChannel(Files.newInputStream(file))));
+    }
+
+    @Test
+    public void testRejectsUnsupportedVersion() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putShort(4, (short) (ScheduleFile.VERSION + 1));
+
+        assertInvalid(bytes, "Unsupported schedule file version 2");
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        bytes[0] = 'X';
+
+        assertInvalid(bytes, "Not a schedule file");
+    }
+
+    @Test
+    public void testRejectsCorruptMask() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(ScheduleFile.HEADER_SIZE + ScheduleFile.RECORD_SIZE, -1L);
+
+        assertInvalid(bytes, "Schedule 1 is corrupt");
+    }
+
+    @Test(expected = EOFException.class)
+    public void testRejectsTruncatedFile() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        Path file = folder.newFile("schedules.bin").toPath();
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        ScheduleFile.map(file);
+    }
+
+    @Test
+    public void testRejectsHugeCommandLength() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(ScheduleFile.HEADER_SIZE + 10 * ScheduleFile.RECORD_SIZE, Integer.MAX_VALUE - 1);
+
+        assertTruncated(bytes);
+    }
+
+    @Test
+    public void testRejectsHugeCommandCount() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(12, Integer.MAX_VALUE);
+
+        assertTruncated(bytes);
+    }
+
+    @Test
+    public void testRejectsHugeScheduleCount() throws IOException {
+        byte[] bytes = write(schedules.subList(0, 10));
+        int scheduleCount = (Integer.MAX_VALUE - ScheduleFile.HEADER_SIZE) / ScheduleFile.RECORD_SIZE;
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(8, scheduleCount)
+                .putLong(16, ScheduleFile.HEADER_SIZE + (long) scheduleCount * ScheduleFile.RECORD_SIZE);
+
+        assertTruncated(bytes);
+    }
+
+    private static byte[] write(List<CompiledCron> schedules) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ScheduleFile.write(Channels.newChannel(output), schedules);
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads the bytes from a stream, a file channel and a mapped file, each of which has to fail at the end of the
+     * file without allocating what the corrupt file claims.
+     */
+    private void assertTruncated(byte[] bytes) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, bytes);
+        try {
+            ScheduleFile.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+            fail("Stream read");
+        } catch (EOFException expected) {
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            ScheduleFile.read(channel);
+            fail("Channel read");
+        } catch (EOFException expected) {
+        }
+        try {
+            ScheduleFile.map(file);
+            fail("Mapped");
+        } catch (EOFException expected) {
+        }
+    }
+
+    private static void assertInvalid(byte[] bytes, String message) {
+        try {
+            ScheduleFile.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+            fail(message);
+        } catch (IOException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+}
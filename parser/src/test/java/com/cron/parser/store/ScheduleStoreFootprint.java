@@ -0,0 +1,63 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.workload.CrontabGenerator;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.List;
+
+/**
+ * Compares the bytes per job of a {@link ScheduleStore} with an array of parsers built from the same generated
+ * crontab. Run with a large heap, e.g. {@code -Xmx4g}, and the job count as argument. The time to scan the store is
+ * measured by the {@code FiringBenchmark} of the benchmarks module.
+ */
+public class ScheduleStoreFootprint {
+
+    public static void main(String[] args) {
+        int count = args.length == 0 ? 1_000_000 : Integer.parseInt(args[0]);
+        List<String> lines = new CrontabGenerator(23, 0.0).generate(count);
+
+        long baseline = usedHeap();
+        CronParser[] parsers = new CronParser[count];
+        for (int i = 0; i < count; i++) {
+            parsers[i] = CronParser.parse(lines.get(i));
+        }
+        long parserHeap = usedHeap() - baseline;
+
+        long directBefore = usedDirect();
+        ScheduleStore store = new ScheduleStore(count);
+        for (int i = 0; i < count; i++) {
+            store.add(parsers[i].getCompiled());
+        }
+        parsers = null;
+        long storeHeap = usedHeap() - baseline;
+        long storeDirect = usedDirect() - directBefore;
+        Reference.reachabilityFence(lines);
+
+        System.out.printf("%,d jobs, %,d distinct commands%n", count, store.commandCount());
+        System.out.printf("parsers   %6.1f bytes per job on the heap%n", (double) parserHeap / count);
+        System.out.printf("store     %6.1f bytes per job on the heap, %6.1f off the heap%n",
+                (double) storeHeap / count, (double) storeDirect / count);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long usedDirect() {
+        long used = 0L;
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                used += pool.getMemoryUsed();
+            }
+        }
+        return used;
+    }
+
+}
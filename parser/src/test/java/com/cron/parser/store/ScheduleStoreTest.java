@@ -0,0 +1,112 @@
+package com.cron.parser.store;
+
+import com.cron.parser.CompiledCron;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static com.cron.parser.workload.ScheduleFixtures.minute;
+import static com.cron.parser.workload.ScheduleFixtures.randomSchedule;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ScheduleStoreTest {
+
+    private ScheduleStore store;
+
+    @Before
+    public void setUp() {
+        store = new ScheduleStore(4);
+    }
+
+    @Test
+    public void testLookupById() {
+        CompiledCron quarterly = CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find");
+        CompiledCron hourly = CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find");
+        int first = store.add(quarterly);
+        int second = store.add(hourly);
+
+        assertEquals(quarterly, store.get(first));
+        assertEquals(hourly, store.get(second));
+        assertEquals("/usr/bin/find", store.getCommand(second));
+        assertEquals(2, store.size());
+        assertEquals(1, store.commandCount());
+        assertNull(store.get(2));
+    }
+
+    @Test
+    public void testFiring() {
+        int quarterly = store.add(CompiledCron.compile("*/15", "0", "1,15", "*", "1-5", "/usr/bin/find"));
+        int hourly = store.add(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find"));
+        store.add(CompiledCron.compile("30", "12", "*", "*", "0", "/usr/bin/find"));
+
+        assertEquals(BitSet.valueOf(new long[]{1L << quarterly | 1L << hourly}), store.firing(minute(2020, 1, 1, 0, 0)));
+        assertEquals(BitSet.valueOf(new long[]{1L << quarterly}), store.firing(minute(2020, 1, 1, 0, 15)));
+        assertEquals(BitSet.valueOf(new long[]{1L << hourly}), store.firing(minute(2020, 1, 4, 0, 0)));
+        assertEquals(new BitSet(), store.firing(minute(2020, 1, 4, 0, 15)));
+        assertTrue(store.matchesMinute(quarterly, minute(2020, 1, 1, 0, 15)));
+        assertFalse(store.matchesMinute(hourly, minute(2020, 1, 1, 0, 15)));
+    }
+
+    @Test
+    public void testRemoveReusesIdAndCommand() {
+        int first = store.add(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/first"));
+        int second = store.add(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/second"));
+
+        assertTrue(store.remove(first));
+        assertFalse(store.remove(first));
+        assertFalse(store.contains(first));
+        assertEquals(1, store.size());
+        assertEquals(1, store.commandCount());
+        assertEquals(BitSet.valueOf(new long[]{1L << second}), store.firing(0L));
+        assertEquals(first, store.add(CompiledCron.compile("1", "*", "*", "*", "*", "/usr/bin/second")));
+        assertEquals(1, store.commandCount());
+        assertEquals(BitSet.valueOf(new long[]{1L << second}), store.firing(0L));
+    }
+
+    @Test
+    public void testSet() {
+        int id = store.add(CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/first"));
+        CompiledCron replacement = CompiledCron.compile("1", "*", "*", "*", "*", "/usr/bin/second");
+        store.set(id, replacement);
+
+        assertEquals(replacement, store.get(id));
+        assertEquals(1, store.commandCount());
+        assertEquals(new BitSet(), store.firing(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetMissingJob() {
+        store.set(0, CompiledCron.compile("0", "*", "*", "*", "*", "/usr/bin/find"));
+    }
+
+    @Test
+    public void testFiringAgreesWithCompiledSchedules() {
+        Random random = new Random(29);
+        CompiledCron[] schedules = new CompiledCron[5_000];
+        for (int i = 0; i < schedules.length; i++) {
+            schedules[i] = randomSchedule(random, "/usr/bin/job" + random.nextInt(100));
+            store.add(schedules[i]);
+        }
+        for (int i = 0; i < schedules.length; i += 3) {
+            store.remove(i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            long epochMinute = random.nextInt(100_000_000) - 50_000_000;
+            BitSet expected = new BitSet();
+            for (int id = 0; id < schedules.length; id++) {
+                if (id % 3 != 0 && schedules[id].matchesMinute(epochMinute)) {
+                    expected.set(id);
+                }
+            }
+
+            assertEquals(expected, store.firing(epochMinute));
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.cron.parser.workload;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Generates reproducible crontab corpora shaped like the schedules of a real fleet: mostly top of the hour and
+ * every few minutes, business hours and weekdays, some long comma lists and a small share of invalid lines. The same
+ * seed always generates the same lines.
+ * <pre>
+ * java -cp parser/target/test-classes com.cron.parser.workload.CrontabGenerator crontab.txt 1000000 42
+ * </pre>
+ */
+public class CrontabGenerator {
+
+    public static final double DEFAULT_INVALID_RATE = 0.01;
+
+    private static final String[] TEAMS = {"billing", "search", "reports", "backup", "mail", "metrics", "ads", "auth"};
+    private static final String[] TASKS = {"sync", "cleanup", "rotate", "export", "reindex", "digest", "snapshot", "probe"};
+
+    private final Random random;
+    private final double invalidRate;
+
+    public CrontabGenerator(long seed) {
+        this(seed, DEFAULT_INVALID_RATE);
+    }
+
+    public CrontabGenerator(long seed, double invalidRate) {
+        if (invalidRate < 0.0 || invalidRate > 1.0) {
+            throw new IllegalArgumentException("Invalid rate " + invalidRate + " is not between 0 and 1");
+        }
+        this.random = new Random(seed);
+        this.invalidRate = invalidRate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException("Usage: CrontabGenerator <file> <size> [seed]");
+        }
+        new CrontabGenerator(args.length == 3 ? Long.parseLong(args[2]) : 0L).write(Paths.get(args[0]), Integer.parseInt(args[1]));
+    }
+
+    public List<String> generate(int size) {
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lines.add(next());
+        }
+        return lines;
+    }
+
+    public void write(Path file, int size) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < size; i++) {
+                writer.write(next());
+                writer.newLine();
+            }
+        }
+    }
+
+    public String next() {
+        String[] fields = {minute(), hour(), dayOfMonth(), month(), dayOfWeek(), command()};
+        if (random.nextDouble() < invalidRate) {
+            invalidate(fields);
+        }
+        StringBuilder line = new StringBuilder();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(field);
+        }
+        return line.toString();
+    }
+
+    private String minute() {
+        int roll = random.nextInt(100);
+        if (roll < 35) {
+            return "0";
+        } else if (roll < 55) {
+            return "*/5";
+        } else if (roll < 65) {
+            return "*";
+        } else if (roll < 75) {
+            return "*/15";
+        } else if (roll < 85) {
+            return String.valueOf(random.nextInt(60));
+        } else if (roll < 92) {
+            return list(0, 59, 2 + random.nextInt(4));
+        } else if (roll < 97) {
+            return random.nextBoolean() ? "*/10" : "*/30";
+        } else {
+            return list(0, 59, 20 + random.nextInt(21));
+        }
+    }
+
+    private String hour() {
+        int roll = random.nextInt(100);
+        if (roll < 40) {
+            return "*";
+        } else if (roll < 60) {
+            return "9-17";
+        } else if (roll < 75) {
+            return String.valueOf(random.nextInt(24));
+        } else if (roll < 85) {
+            return "*/2";
+        } else if (roll < 95) {
+            return list(0, 23, 2 + random.nextInt(5));
+        } else {
+            return "8-18/2";
+        }
+    }
+
+    private String dayOfMonth() {
+        int roll = random.nextInt(100);
+        if (roll < 85) {
+            return "*";
+        } else if (roll < 90) {
+            return "1";
+        } else if (roll < 95) {
+            return "1,15";
+        } else {
+            return String.valueOf(1 + random.nextInt(28));
+        }
+    }
+
+    private String month() {
+        int roll = random.nextInt(100);
+        if (roll < 90) {
+            return "*";
+        } else if (roll < 95) {
+            return "1,4,7,10";
+        } else {
+            return String.valueOf(1 + random.nextInt(12));
+        }
+    }
+
+    private String dayOfWeek() {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return "*";
+        } else if (roll < 90) {
+            return "1-5";
+        } else if (roll < 95) {
+            return "0";
+        } else {
+            return "0,6";
+        }
+    }
+
+    private String command() {
+        return "/opt/jobs/" + TEAMS[random.nextInt(TEAMS.length)] + "/" + TASKS[random.nextInt(TASKS.length)] + "-" + random.nextInt(1000) + ".sh";
+    }
+
+    private String list(int min, int max, int count) {
+        TreeSet<Integer> values = new TreeSet<>();
+        while (values.size() < count) {
+            values.add(min + random.nextInt(max - min + 1));
+        }
+        StringBuilder list = new StringBuilder();
+        for (int value : values) {
+            if (list.length() > 0) {
+                list.append(',');
+            }
+            list.append(value);
+        }
+        return list.toString();
+    }
+
+    /**
+     * Breaks one field the way hand edited crontabs usually break: a value out of range, a missing field, a typo,
+     * a reversed range or a zero step.
+     */
+    private void invalidate(String[] fields) {
+        switch (random.nextInt(5)) {
+            case 0:
+                fields[random.nextInt(2)] = String.valueOf(60 + random.nextInt(40));
+                break;
+            case 1:
+                fields[random.nextInt(5)] = null;
+                break;
+            case 2:
+                fields[random.nextInt(5)] = random.nextBoolean() ? "*/x" : "1;5";
+                break;
+            case 3:
+                fields[1] = "17-9";
+                break;
+            default:
+                fields[0] = "*/0";
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.cron.parser.workload;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.expressions.ExpressionParserException;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CrontabGeneratorTest {
+
+    private static final int SIZE = 20_000;
+
+    @Test
+    public void testReproducible() {
+        assertEquals(new CrontabGenerator(7).generate(1_000), new CrontabGenerator(7).generate(1_000));
+        assertNotEquals(new CrontabGenerator(7).generate(1_000), new CrontabGenerator(8).generate(1_000));
+    }
+
+    @Test
+    public void testDistribution() {
+        List<String> lines = new CrontabGenerator(42).generate(SIZE);
+
+        int invalid = 0;
+        int topOfHour = 0;
+        int everyFiveMinutes = 0;
+        int businessHours = 0;
+        int longLists = 0;
+        for (String line : lines) {
+            String[] fields = line.split(" ");
+            try {
+                CronParser.parse(line);
+            } catch (IllegalArgumentException | ExpressionParserException e) {
+                invalid++;
+                continue;
+            }
+            topOfHour += fields[0].equals("0") ? 1 : 0;
+            everyFiveMinutes += fields[0].equals("*/5") ? 1 : 0;
+            businessHours += fields[1].equals("9-17") ? 1 : 0;
+            longLists += fields[0].split(",").length >= 20 ? 1 : 0;
+        }
+
+        assertBetween(invalid, 0.005, 0.015);
+        assertBetween(topOfHour, 0.30, 0.40);
+        assertBetween(everyFiveMinutes, 0.15, 0.25);
+        assertBetween(businessHours, 0.15, 0.25);
+        assertBetween(longLists, 0.01, 0.05);
+    }
+
+    @Test
+    public void testEveryInvalidLineFails() {
+        for (String line : new CrontabGenerator(3, 1.0).generate(1_000)) {
+            try {
+                CronParser.parse(line);
+                throw new AssertionError("Expected " + line + " to be invalid");
+            } catch (IllegalArgumentException | ExpressionParserException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRate() {
+        new CrontabGenerator(1, 1.5);
+    }
+
+    private static void assertBetween(int count, double min, double max) {
+        double share = (double) count / SIZE;
+        assertTrue(share + " is not between " + min + " and " + max, share >= min && share <= max);
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.cron.parser.workload;
+
+import com.cron.parser.CronParser;
+import com.cron.parser.expressions.ExpressionParserException;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Macro benchmark that parses a generated crontab corpus with {@link CronParser} and reports the throughput, the
+ * median and 99th percentile latency per line and the heap high-water mark. Every measured round is appended to a
+ * CSV results file, so that releases can be compared. The arguments are the corpus size, the seed, the results file
+ * and a label for the run, e.g. the release.
+ * <pre>
+ * java -Xmx1g -cp parser/target/classes:parser/target/test-classes com.cron.parser.workload.CrontabLoadBenchmark 1000000 42 load-test.csv 1.0
+ * </pre>
+ */
+public class CrontabLoadBenchmark {
+
+    private static final String HEADER = "timestamp,label,java,size,seed,lines_per_second,p50_ns,p99_ns,heap_peak_bytes,invalid";
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        Path results = Paths.get(args.length > 2 ? args[2] : "parser/target/load-test-results.csv");
+        String label = args.length > 3 ? args[3] : "snapshot";
+
+        List<String> corpus = new CrontabGenerator(seed).generate(size);
+        long[] latencies = new long[size];
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            System.gc();
+            resetPeakHeap();
+            Result result = run(corpus, latencies);
+            if (round < WARMUP_ROUNDS) {
+                continue;
+            }
+            String record = Instant.now() + "," + label + "," + System.getProperty("java.version") + "," + size + "," + seed + ","
+                    + Math.round(result.linesPerSecond) + "," + result.p50 + "," + result.p99 + "," + result.heapPeak + "," + result.invalid;
+            System.out.printf("%,.0f lines/s, p50 %,d ns, p99 %,d ns, heap peak %,d MiB, %,d invalid%n",
+                    result.linesPerSecond, result.p50, result.p99, result.heapPeak >> 20, result.invalid);
+            append(results, record);
+        }
+        System.out.println("Results appended to " + results.toAbsolutePath());
+    }
+
+    static Result run(List<String> corpus, long[] latencies) {
+        int invalid = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < corpus.size(); i++) {
+            long lineStart = System.nanoTime();
+            try {
+                CronParser.parse(corpus.get(i));
+            } catch (IllegalArgumentException | ExpressionParserException e) {
+                invalid++;
+            }
+            latencies[i] = System.nanoTime() - lineStart;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long heapPeak = peakHeap();
+        Arrays.sort(latencies, 0, corpus.size());
+        return new Result(
+                corpus.size() / (elapsed / 1e9),
+                percentile(latencies, corpus.size(), 0.50),
+                percentile(latencies, corpus.size(), 0.99),
+                heapPeak,
+                invalid
+        );
+    }
+
+    static long percentile(long[] sorted, int size, double percentile) {
+        return sorted[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Sums the peak usage of the heap pools since the last reset. The pools peak at different moments, so this is an
+     * upper bound of the real high-water mark.
+     */
+    private static long peakHeap() {
+        long peak = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static void append(Path results, String record) throws IOException {
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        String content = (Files.exists(results) ? "" : HEADER + "\n") + record + "\n";
+        Files.write(results, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    static final class Result {
+
+        private final double linesPerSecond;
+        private final long p50;
+        private final long p99;
+        private final long heapPeak;
+        private final int invalid;
+
+        private Result(double linesPerSecond, long p50, long p99, long heapPeak, int invalid) {
+            this.linesPerSecond = linesPerSecond;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.heapPeak = heapPeak;
+            this.invalid = invalid;
+        }
+
+    }
+
+}
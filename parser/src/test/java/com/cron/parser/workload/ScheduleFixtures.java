@@ -0,0 +1,59 @@
+package com.cron.parser.workload;
+
+import com.cron.parser.CompiledCron;
+import com.cron.parser.fields.FieldMask;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+/**
+ * Minutes and random schedules shared by the tests that compare the stores, indexes and schedulers with
+ * {@link CompiledCron}.
+ */
+public final class ScheduleFixtures {
+
+    private ScheduleFixtures() {
+    }
+
+    /**
+     * Returns the minutes since the epoch of the given UTC date time.
+     */
+    public static long minute(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * Returns a schedule of random masks for all five fields.
+     */
+    public static CompiledCron randomSchedule(Random random, String command) {
+        return CompiledCron.of(
+                randomMask(random, 0, 59),
+                randomMask(random, 0, 23),
+                randomMask(random, 1, 31),
+                randomMask(random, 1, 12),
+                randomMask(random, 0, 6),
+                command);
+    }
+
+    /**
+     * Returns a non-empty mask between the given values, which is equally likely the full range, a step over it, a
+     * random range within it or random values.
+     */
+    public static FieldMask randomMask(Random random, int min, int max) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return FieldMask.range(min, max);
+            case 1:
+                return FieldMask.range(min, max).step(1 + random.nextInt(max - min + 1));
+            case 2:
+                int first = min + random.nextInt(max - min + 1);
+                int second = min + random.nextInt(max - min + 1);
+                return FieldMask.range(Math.min(first, second), Math.max(first, second));
+            default:
+                long bits = random.nextLong() & FieldMask.rangeBits(min, max);
+                return bits == 0L ? FieldMask.of(min) : FieldMask.valueOf(bits);
+        }
+    }
+
+}